@@ -0,0 +1,123 @@
+package ch.njol.skript.patterns;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks compiling syntax patterns and matching statements against them, which is what the parser spends
+ * most of its time on when loading scripts.
+ * <p>
+ * Statements are only matched against the patterns without types and regular expressions,
+ * as parsing the expressions of a statement requires the syntax elements registered by a running server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkriptPatternBenchmark {
+
+	private static final String[] PATTERNS = {
+		"cancel [the] event",
+		"uncancel [the] event",
+		"(exit|stop) [trigger]",
+		"(exit|stop) [1|a|the|this] (section|1:loop|2:conditional)",
+		"(exit|stop) <\\d+> (section|1:loop|2:conditional)s",
+		"(exit|stop) all (section|1:loop|2:conditional)s",
+		"continue [this loop|[the] [current] loop]",
+		"continue [the] <\\d+>(st|nd|rd|th) loop",
+		"(stop|shut[ ]down) [the] server",
+		"restart [the] server",
+		"(cancel|ignore) [the] [current] [command] cooldown",
+		"un(cancel|ignore) [the] [current] [command] cooldown",
+		"(cancel|clear|delete) [the] drops [of (items:items|xp:[e]xp[erience][s])]",
+		"(cancel|clear|delete) [the] (items:item|xp:[e]xp[erience]) drops",
+		"[:un]enforce [the] [server] white[ ]list",
+		"(reel|pull) in hook[ed] entity",
+		"cause exception",
+		"[the] [last] [parse] error",
+		"[the] white[ ]list",
+		"now",
+		"(message|send [message[s]]) %objects% [to %commandsenders%] [from %-player%]",
+		"log %strings% [(to|in) [file[s]] %-strings%] [with [the|a] severity [of] (1:warning|2:severe)]",
+		"broadcast %objects% [(to|in) %-worlds%]",
+		"kill %entities%",
+		"[:force] teleport %entities% (to|%direction%) %location%",
+		"return %objects%",
+		"(ignite|set fire to) %entities% [for %-timespan%]",
+		"(set|light) %entities% on fire [for %-timespan%]",
+		"extinguish %entities%",
+		"%inventories% (has|have) %itemtypes% [in [(the[ir]|his|her|its)] inventory]",
+		"%inventories% (doesn't|does not|do not|don't) have %itemtypes% [in [(the[ir]|his|her|its)] inventory]",
+		"%inventories/strings/objects% contain[(1¦s)] %itemtypes/strings/objects%",
+		"%~objects% (exist[s]|(is|are) set)",
+		"%~objects% (do[es](n't| not) exist|(is|are)(n't| not) set)",
+	};
+
+	private static final String[] STATEMENTS = {
+		"cancel event",
+		"cancel the event",
+		"stop",
+		"exit 2 loops",
+		"stop the loop",
+		"continue",
+		"continue the current loop",
+		"shut down the server",
+		"ignore the cooldown",
+		"clear the drops of items",
+		"delete the xp drops",
+		"unenforce the whitelist",
+		"reel in hooked entity",
+		"the last parse error",
+		"now",
+		"send \"hello\" to player",
+		"set {_x} to 5",
+		"add 1 to {count::%uuid of player%}",
+		"teleport player to {spawn}",
+		"if player has permission \"admin\":",
+		"broadcast \"%player% joined the game\"",
+		"loop all players:",
+		"wait 5 seconds",
+	};
+
+	private final List<SkriptPattern> literalPatterns = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		for (String pattern : PATTERNS) {
+			SkriptPattern compiled = PatternCompiler.compile(pattern);
+			if (compiled.getElements(TypePatternElement.class).isEmpty() && compiled.getElements(RegexPatternElement.class).isEmpty())
+				literalPatterns.add(compiled);
+		}
+	}
+
+	@Benchmark
+	public void compile(Blackhole blackhole) {
+		for (String pattern : PATTERNS)
+			blackhole.consume(PatternCompiler.compile(pattern));
+	}
+
+	@Benchmark
+	public void match(Blackhole blackhole) {
+		for (String statement : STATEMENTS) {
+			for (SkriptPattern pattern : literalPatterns)
+				blackhole.consume(pattern.match(statement));
+		}
+	}
+
+}
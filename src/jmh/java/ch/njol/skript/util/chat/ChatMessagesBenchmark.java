@@ -0,0 +1,100 @@
+package ch.njol.skript.util.chat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing chat messages to components and serializing them to JSON.
+ * <p>
+ * {@link ChatMessages#parse(String)} caches the components of strings up to 512 characters,
+ * so the message repeated past that length is parsed on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessagesBenchmark {
+
+	/**
+	 * The message parsed:
+	 * <ul>
+	 *     <li>{@code plain}: a message without any formatting</li>
+	 *     <li>{@code legacy}: a message formatted with {@code &} color codes</li>
+	 *     <li>{@code tags}: a message formatted with tags, including a link and a tooltip</li>
+	 * </ul>
+	 */
+	@Param({"plain", "legacy", "tags"})
+	public String kind;
+
+	private String message;
+	private String longMessage;
+	private List<MessageComponent> components;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		// The chat codes are registered by a language listener, which needs a running server
+		ChatMessages.codes.clear();
+		for (SkriptChatCode code : SkriptChatCode.values()) {
+			ChatMessages.codes.put(code.name(), code);
+			if (code.getLangName() != null)
+				ChatMessages.codes.put(code.getLangName().toLowerCase(Locale.ENGLISH), code);
+			if (code.getColorChar() != 0)
+				ChatMessages.addColorChar(code.getColorChar(), code);
+		}
+		ChatMessages.codes.put("link", SkriptChatCode.open_url);
+		ChatMessages.codes.put("tooltip", SkriptChatCode.show_text);
+		ChatMessages.addColorChar('k', SkriptChatCode.obfuscated);
+		ChatMessages.addColorChar('l', SkriptChatCode.bold);
+		ChatMessages.addColorChar('m', SkriptChatCode.strikethrough);
+		ChatMessages.addColorChar('n', SkriptChatCode.underlined);
+		ChatMessages.addColorChar('o', SkriptChatCode.italic);
+		ChatMessages.addColorChar('r', SkriptChatCode.reset);
+
+		message = switch (kind) {
+			case "plain" -> "Welcome back to the server, Steve! You have 3 unread messages.";
+			case "legacy" -> "&6[Server] &eWelcome back, &lSteve&r&e! You have &c3 &eunread messages.";
+			case "tags" -> "<gold>[Server] <yellow>Welcome back, <bold>Steve<reset><yellow>! "
+				+ "<tooltip:Click to read them><link:https://example.com/inbox>You have <red>3 <yellow>unread messages.";
+			default -> throw new IllegalArgumentException(kind);
+		};
+		longMessage = message.repeat(512 / message.length() + 1);
+		components = ChatMessages.parse(message);
+	}
+
+	@Benchmark
+	public List<MessageComponent> parse() {
+		return ChatMessages.parse(message);
+	}
+
+	@Benchmark
+	public List<MessageComponent> parseUncached() {
+		return ChatMessages.parse(longMessage);
+	}
+
+	@Benchmark
+	public String toJson() {
+		return ChatMessages.toJson(message);
+	}
+
+	@Benchmark
+	public String componentsToJson() {
+		return ChatMessages.toJson(components);
+	}
+
+}
@@ -0,0 +1,79 @@
+package ch.njol.skript.variables;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link VariablesMap#VARIABLE_NAME_COMPARATOR} with the kinds of list indices scripts commonly use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariableNameComparatorBenchmark {
+
+	private static final int NAMES = 1024;
+
+	/**
+	 * The kind of names compared:
+	 * <ul>
+	 *     <li>{@code integer}: indices of lists that were added to, e.g. {@code 137}</li>
+	 *     <li>{@code decimal}: signed decimal numbers, e.g. {@code -12.5}</li>
+	 *     <li>{@code uuid}: player UUIDs</li>
+	 *     <li>{@code path}: nested indices, e.g. {@code <uuid>::homes::3}</li>
+	 * </ul>
+	 */
+	@Param({"integer", "decimal", "uuid", "path"})
+	public String kind;
+
+	private String[] names;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42);
+		names = new String[NAMES];
+		for (int i = 0; i < NAMES; i++) {
+			names[i] = switch (kind) {
+				case "integer" -> String.valueOf(random.nextInt(100_000));
+				case "decimal" -> (random.nextBoolean() ? "-" : "") + random.nextInt(1000) + "." + random.nextInt(100);
+				case "uuid" -> new UUID(random.nextLong(), random.nextLong()).toString();
+				case "path" -> new UUID(random.nextLong(), random.nextLong()) + "::homes::" + random.nextInt(20);
+				default -> throw new IllegalArgumentException(kind);
+			};
+		}
+	}
+
+	@Benchmark
+	public int compare() {
+		int i = index;
+		index = (i + 1) & (NAMES - 1);
+		return VariablesMap.VARIABLE_NAME_COMPARATOR.compare(names[i], names[(i + 1) & (NAMES - 1)]);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String[] sort() {
+		String[] copy = names.clone();
+		Arrays.sort(copy, VariablesMap.VARIABLE_NAME_COMPARATOR);
+		return copy;
+	}
+
+}
@@ -0,0 +1,105 @@
+package ch.njol.skript.variables;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks getting, setting and iterating the variables of a {@link VariablesMap},
+ * with a list variable {@code list::*} and as many plain variables as the list has elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariablesMapBenchmark {
+
+	@Param({"100", "10000", "100000"})
+	public int size;
+
+	private VariablesMap map;
+	private String[] plainNames;
+	private String[] listNames;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		map = new VariablesMap();
+		plainNames = new String[size];
+		listNames = new String[size];
+		for (int i = 0; i < size; i++) {
+			plainNames[i] = "variable." + i;
+			listNames[i] = "list::" + i;
+			map.setVariable(plainNames[i], i);
+			map.setVariable(listNames[i], i);
+		}
+	}
+
+	private int next() {
+		int i = index;
+		index = i + 1 == size ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public Object getPlain() {
+		return map.getVariable(plainNames[next()]);
+	}
+
+	@Benchmark
+	public Object getListElement() {
+		return map.getVariable(listNames[next()]);
+	}
+
+	@Benchmark
+	public void setPlain() {
+		int i = next();
+		map.setVariable(plainNames[i], i);
+	}
+
+	@Benchmark
+	public void setListElement() {
+		int i = next();
+		map.setVariable(listNames[i], i);
+	}
+
+	@Benchmark
+	public void deleteAndSetListElement() {
+		int i = next();
+		map.setVariable(listNames[i], null);
+		map.setVariable(listNames[i], i);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@SuppressWarnings("unchecked")
+	public void iterateList(Blackhole blackhole) {
+		Map<String, Object> list = (Map<String, Object>) map.getVariable("list::*");
+		for (Map.Entry<String, Object> entry : list.entrySet()) {
+			blackhole.consume(entry.getKey());
+			blackhole.consume(entry.getValue());
+		}
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public VariablesMap copy() {
+		return map.copy();
+	}
+
+}
@@ -0,0 +1,118 @@
+package ch.njol.yggdrasil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serializing and deserializing values with {@link Yggdrasil},
+ * as done for every variable that is saved or loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YggdrasilBenchmark {
+
+	/**
+	 * The value serialized:
+	 * <ul>
+	 *     <li>{@code string}: a short string, the most common variable value</li>
+	 *     <li>{@code uuid}: a {@link UUID}, serialized by the {@link JRESerializer}</li>
+	 *     <li>{@code object}: a {@link YggdrasilSerializable} object, serialized field by field</li>
+	 *     <li>{@code map}: a map of strings to lists of objects</li>
+	 * </ul>
+	 */
+	@Param({"string", "uuid", "object", "map"})
+	public String value;
+
+	private Yggdrasil yggdrasil;
+	private Object object;
+	private byte[] serialized;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		yggdrasil = new Yggdrasil();
+		yggdrasil.registerSingleClass(Home.class, "Home");
+
+		Random random = new Random(42);
+		object = switch (value) {
+			case "string" -> "Welcome back to the server!";
+			case "uuid" -> new UUID(random.nextLong(), random.nextLong());
+			case "object" -> new Home(random);
+			case "map" -> {
+				Map<String, List<Home>> homes = new HashMap<>();
+				for (int i = 0; i < 16; i++) {
+					List<Home> list = new ArrayList<>();
+					for (int j = 0; j < 4; j++)
+						list.add(new Home(random));
+					homes.put(new UUID(random.nextLong(), random.nextLong()).toString(), list);
+				}
+				yield homes;
+			}
+			default -> throw new IllegalArgumentException(value);
+		};
+		serialized = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (YggdrasilOutputStream out = yggdrasil.newOutputStream(bytes)) {
+			out.writeObject(object);
+			out.flush();
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException {
+		try (YggdrasilInputStream in = yggdrasil.newInputStream(new ByteArrayInputStream(serialized))) {
+			return in.readObject();
+		}
+	}
+
+	public static final class Home implements YggdrasilSerializable {
+
+		private String name;
+		private String world;
+		private double x, y, z;
+		private float yaw, pitch;
+
+		public Home() {}
+
+		Home(Random random) {
+			name = "home" + random.nextInt(10);
+			world = "world";
+			x = random.nextDouble() * 1000;
+			y = random.nextInt(256);
+			z = random.nextDouble() * 1000;
+			yaw = random.nextFloat() * 360;
+			pitch = random.nextFloat() * 180 - 90;
+		}
+
+	}
+
+}
@@ -13,6 +13,8 @@ import ch.njol.skript.log.RetainingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.structures.StructOptions.OptionsData;
 import ch.njol.skript.test.runner.TestMode;
+import ch.njol.skript.timings.LoadProfiler;
+import ch.njol.skript.timings.RuntimeMetrics;
 import ch.njol.skript.util.ExceptionUtils;
 import ch.njol.skript.util.SkriptColor;
 import ch.njol.skript.util.Task;
@@ -35,6 +37,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -541,6 +544,9 @@ public class ScriptLoader {
 						parser.setCurrentStructure(structure);
 						parser.setNode(loadingInfo.nodeMap.get(structure));
 
+						int profile = LoadProfiler.enterScript(loadingInfo.script);
+						LoadProfiler.enterStructure(loadingInfo.nodeMap.get(structure));
+						long start = System.nanoTime();
 						try {
 							if (!structure.preLoad()) {
 								loadingInfo.structures.remove(structure);
@@ -551,6 +557,9 @@ public class ScriptLoader {
 							Skript.exception(e, "An error occurred while trying to preLoad a Structure.");
 							loadingInfo.structures.remove(structure);
 							return true;
+						} finally {
+							loadingInfo.stageNanos[1] += System.nanoTime() - start;
+							LoadProfiler.exit(profile);
 						}
 						return false;
 					});
@@ -570,6 +579,9 @@ public class ScriptLoader {
 						parser.setCurrentStructure(structure);
 						parser.setNode(loadingInfo.nodeMap.get(structure));
 
+						int profile = LoadProfiler.enterScript(loadingInfo.script);
+						LoadProfiler.enterStructure(loadingInfo.nodeMap.get(structure));
+						long start = System.nanoTime();
 						try {
 							if (!structure.load()) {
 								loadingInfo.structures.remove(structure);
@@ -580,6 +592,9 @@ public class ScriptLoader {
 							Skript.exception(e, "An error occurred while trying to load a Structure.");
 							loadingInfo.structures.remove(structure);
 							return true;
+						} finally {
+							loadingInfo.stageNanos[2] += System.nanoTime() - start;
+							LoadProfiler.exit(profile);
 						}
 						return false;
 					});
@@ -594,6 +609,9 @@ public class ScriptLoader {
 						parser.setCurrentStructure(structure);
 						parser.setNode(loadingInfo.nodeMap.get(structure));
 
+						int profile = LoadProfiler.enterScript(loadingInfo.script);
+						LoadProfiler.enterStructure(loadingInfo.nodeMap.get(structure));
+						long start = System.nanoTime();
 						try {
 							if (!structure.postLoad()) {
 								loadingInfo.structures.remove(structure);
@@ -604,6 +622,9 @@ public class ScriptLoader {
 							Skript.exception(e, "An error occurred while trying to postLoad a Structure.");
 							loadingInfo.structures.remove(structure);
 							return true;
+						} finally {
+							loadingInfo.stageNanos[3] += System.nanoTime() - start;
+							LoadProfiler.exit(profile);
 						}
 						return false;
 					});
@@ -612,6 +633,7 @@ public class ScriptLoader {
 					// trigger events
 					scripts.forEach(loadingInfo -> {
 						Script script = loadingInfo.script;
+						RuntimeMetrics.recordScriptLoad(script.getConfig().getFileName(), loadingInfo.stageNanos);
 
 						parser.setActive(script);
 						parser.setNode(script.getConfig().getMainNode());
@@ -623,6 +645,9 @@ public class ScriptLoader {
 					});
 					parser.setInactive();
 
+					if (LoadProfiler.isEnabled() && LoadProfiler.hasRecorded())
+						saveLoadProfile();
+
 					return scriptInfo;
 				} catch (Exception e) {
 					// Something went wrong, we need to make sure the exception is printed
@@ -637,6 +662,23 @@ public class ScriptLoader {
 			});
 	}
 
+	/**
+	 * Saves what the {@link LoadProfiler} recorded while loading to the profiles folder and resets it.
+	 */
+	private static void saveLoadProfile() {
+		String name = "load-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+		Path directory = Skript.getInstance().getDataFolder().toPath().resolve("profiles");
+		Path report = directory.resolve(name + ".txt");
+		try {
+			LoadProfiler.dump(report, directory.resolve(name + ".collapsed"));
+			Skript.info("Saved the load profile to " + report);
+		} catch (IOException e) {
+			//noinspection ThrowableNotThrown
+			Skript.exception(e, "Failed to write the load profile.");
+		}
+		LoadProfiler.reset();
+	}
+
 	private static class LoadingScriptInfo {
 
 		public final Script script;
@@ -645,6 +687,11 @@ public class ScriptLoader {
 
 		public final Map<Structure, Node> nodeMap;
 
+		/**
+		 * The nanoseconds each of the {@link RuntimeMetrics#LOAD_STAGES} took for this script.
+		 */
+		public final long[] stageNanos = new long[RuntimeMetrics.LOAD_STAGES.length];
+
 		public LoadingScriptInfo(Script script, List<Structure> structures, Map<Structure, Node> nodeMap) {
 			this.script = script;
 			this.structures = structures;
@@ -669,6 +716,8 @@ public class ScriptLoader {
 		Script script = new Script(config, structures);
 		parser.setActive(script);
 
+		long start = System.nanoTime();
+		int profile = LoadProfiler.enterScript(script);
 		try {
 			if (SkriptConfig.keepConfigsLoaded.value())
 				SkriptConfig.configs.add(config);
@@ -692,7 +741,9 @@ public class ScriptLoader {
 					if (Skript.logVeryHigh() && !Skript.debug())
 						Skript.info("loading trigger '" + line + "'");
 
+					int structureProfile = LoadProfiler.enterStructure(node);
 					Structure structure = Structure.parse(line, node, "Can't understand this structure: " + line);
+					LoadProfiler.exit(structureProfile);
 
 					if (structure == null)
 						continue;
@@ -711,7 +762,9 @@ public class ScriptLoader {
 			Skript.exception(e, "Could not load " + config.getFileName());
 		} finally {
 			parser.setInactive();
+			LoadProfiler.exit(profile);
 		}
+		long parseNanos = System.nanoTime() - start;
 
 		// In always sync task, enable stuff
 		Callable<Void> callable = () -> {
@@ -739,7 +792,9 @@ public class ScriptLoader {
 			}
 		}
 
-		return new LoadingScriptInfo(script, structures, nodeMap);
+		LoadingScriptInfo info = new LoadingScriptInfo(script, structures, nodeMap);
+		info.stageNanos[0] = parseNanos;
+		return info;
 	}
 
 	/*
@@ -917,6 +972,7 @@ public class ScriptLoader {
 			script.clearData();
 			script.invalidate();
 			loadedScripts.remove(script); // We just unloaded it, so...
+			RuntimeMetrics.removeScript(script.getConfig().getFileName());
 			File scriptFile = script.getConfig().getFile();
 			assert scriptFile != null;
 			disabledScripts.add(new File(scriptFile.getParentFile(), DISABLED_SCRIPT_PREFIX + scriptFile.getName()));
@@ -1022,7 +1078,9 @@ public class ScriptLoader {
 			TriggerItem item = null;
 			if (subNode instanceof SimpleNode) {
 				long start = System.currentTimeMillis();
+				int profile = LoadProfiler.enterLine(subNode);
 				item = Statement.parse(expr, items, "Can't understand this condition/effect: " + expr);
+				LoadProfiler.exit(profile);
 				if (item == null)
 					continue;
 				long requiredTime = SkriptConfig.longParseTimeWarningThreshold.value().getAs(Timespan.TimePeriod.MILLISECOND);
@@ -1041,6 +1099,7 @@ public class ScriptLoader {
 				items.add(item);
 			} else if (subNode instanceof SectionNode subSection) {
 
+				int profile = LoadProfiler.enterLine(subNode);
 				RetainingLogHandler handler = SkriptLogger.startRetainingLog();
 				find_section:
 				try {
@@ -1091,6 +1150,7 @@ public class ScriptLoader {
 					if (item != null && (Skript.debug() || subNode.debug()))
 						Skript.debug(SkriptColor.replaceColorChar(parser.getIndentation() + item.toString(null, true)));
 					afterParse.printLog();
+					LoadProfiler.exit(profile);
 				}
 
 				items.add(item);
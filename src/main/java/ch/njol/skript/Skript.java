@@ -13,6 +13,7 @@ import ch.njol.skript.classes.data.JavaClasses;
 import ch.njol.skript.classes.data.SkriptClasses;
 import ch.njol.skript.command.Commands;
 import ch.njol.skript.doc.Documentation;
+import ch.njol.skript.entity.EntityIndex;
 import ch.njol.skript.events.EvtSkript;
 import ch.njol.skript.expressions.arithmetic.ExprArithmetic;
 import ch.njol.skript.hooks.Hook;
@@ -40,15 +41,21 @@ import ch.njol.skript.test.runner.SkriptJUnitTest;
 import ch.njol.skript.test.runner.SkriptTestEvent;
 import ch.njol.skript.test.runner.TestMode;
 import ch.njol.skript.test.runner.TestTracker;
+import ch.njol.skript.timings.RuntimeMetrics;
 import ch.njol.skript.timings.SkriptTimings;
 import ch.njol.skript.update.ReleaseManifest;
 import ch.njol.skript.update.ReleaseStatus;
 import ch.njol.skript.update.UpdateManifest;
+import ch.njol.skript.util.AsyncExecutor;
+import ch.njol.skript.util.BlockBatch;
+import ch.njol.skript.util.ExecutionBudget;
 import ch.njol.skript.util.Date;
 import ch.njol.skript.util.EmptyStacktraceException;
 import ch.njol.skript.util.ExceptionUtils;
 import ch.njol.skript.util.FileUtils;
+import ch.njol.skript.util.ScriptAccounting;
 import ch.njol.skript.util.Task;
+import ch.njol.skript.util.TimerWheel;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.util.Version;
 import ch.njol.skript.util.chat.BungeeConverter;
@@ -120,6 +127,7 @@ import org.skriptlang.skript.lang.properties.PropertyRegistry;
 import org.skriptlang.skript.lang.script.Script;
 import org.skriptlang.skript.lang.structure.Structure;
 import org.skriptlang.skript.lang.structure.StructureInfo;
+import org.skriptlang.skript.log.runtime.AsyncRuntimeErrorConsumer;
 import org.skriptlang.skript.log.runtime.RuntimeErrorManager;
 import org.skriptlang.skript.registration.DefaultSyntaxInfos;
 import org.skriptlang.skript.registration.SyntaxInfo;
@@ -552,9 +560,14 @@ public final class Skript extends JavaPlugin implements Listener {
 		// Register the runtime error refresh after loading, so we can do the first instantiation manually.
 		SkriptConfig.eventRegistry().register(SkriptConfig.ReloadEvent.class, RuntimeErrorManager::refresh);
 
-		// init runtime error manager and add bukkit consumer.
+		// init runtime error manager and add bukkit consumer, which prints errors on a separate thread.
 		RuntimeErrorManager.refresh();
-		getRuntimeErrorManager().addConsumer(new BukkitRuntimeErrorConsumer());
+		AsyncRuntimeErrorConsumer runtimeErrorConsumer = new AsyncRuntimeErrorConsumer(new BukkitRuntimeErrorConsumer(),
+			SkriptConfig.runtimeErrorSummaryInterval.value());
+		SkriptConfig.eventRegistry().register(SkriptConfig.ReloadEvent.class,
+			() -> runtimeErrorConsumer.setSummaryInterval(SkriptConfig.runtimeErrorSummaryInterval.value()));
+		closeOnDisable(runtimeErrorConsumer);
+		getRuntimeErrorManager().addConsumer(runtimeErrorConsumer);
 
 		// Now override the verbosity if test mode is enabled
 		if (TestMode.VERBOSITY != null)
@@ -622,6 +635,17 @@ public final class Skript extends JavaPlugin implements Listener {
 
 		Commands.registerListeners();
 
+		// Started before any other task so that delayed continuations are resumed first in each tick,
+		// right after the execution budget is reset so that they count towards the budget of the tick
+		ExecutionBudget.start(this);
+		TimerWheel.start(this);
+		BlockBatch.start(this);
+		ScriptAccounting.start(this);
+
+		RuntimeMetrics.startServer(SkriptConfig.metricsAddress.value(), SkriptConfig.metricsPort.value());
+		SkriptConfig.eventRegistry().register(SkriptConfig.ReloadEvent.class,
+			() -> RuntimeMetrics.startServer(SkriptConfig.metricsAddress.value(), SkriptConfig.metricsPort.value()));
+
 		if (logNormal())
 			info(" " + Language.get("skript.copyright"));
 
@@ -693,7 +717,7 @@ public final class Skript extends JavaPlugin implements Listener {
 					public LogResult log(final LogEntry entry) {
 						super.log(entry);
 						if (entry.level.intValue() >= Level.SEVERE.intValue()) {
-							logEx(entry.message); // no [Skript] prefix
+							logEx(entry.getMessage()); // no [Skript] prefix
 							return LogResult.DO_NOT_LOG;
 						} else {
 							return LogResult.LOG;
@@ -809,6 +833,9 @@ public final class Skript extends JavaPlugin implements Listener {
 		// Send a warning to console when the plugin is reloaded
 		Bukkit.getPluginManager().registerEvents(new ServerReloadListener(), this);
 
+		// Keep the optional entity index up to date
+		EntityIndex.start(this);
+
 		// Tell Timings that we are here!
 		SkriptTimings.setSkript(this);
 	}
@@ -1322,6 +1349,12 @@ public final class Skript extends JavaPlugin implements Listener {
 		}
 
 		Bukkit.getScheduler().cancelTasks(this);
+		TimerWheel.stop();
+		AsyncExecutor.stop();
+		ExecutionBudget.stop();
+		BlockBatch.stop();
+		ScriptAccounting.stop();
+		RuntimeMetrics.stopServer();
 
 		for (Closeable c : closeOnDisable) {
 			try {
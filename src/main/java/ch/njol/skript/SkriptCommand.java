@@ -16,10 +16,13 @@ import ch.njol.skript.test.runner.SkriptTestEvent;
 import ch.njol.skript.test.runner.TestMode;
 import ch.njol.skript.test.runner.TestTracker;
 import ch.njol.skript.test.utils.TestResults;
+import ch.njol.skript.timings.RuntimeMetrics;
+import ch.njol.skript.timings.SkriptProfiler;
 import ch.njol.skript.util.ExceptionUtils;
 import ch.njol.skript.util.FileUtils;
 import ch.njol.skript.util.SkriptColor;
 import ch.njol.skript.util.Utils;
+import ch.njol.skript.variables.Variables;
 import ch.njol.util.OpenCloseable;
 import ch.njol.util.StringUtils;
 import com.google.gson.GsonBuilder;
@@ -38,6 +41,7 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -65,7 +69,12 @@ public class SkriptCommand implements CommandExecutor {
 			).add(new CommandHelp("update", SkriptColor.DARK_RED)
 				.add("check")
 				.add("changes")
+			).add(new CommandHelp("profile", SkriptColor.DARK_RED)
+				.add("show")
+				.add("dump")
+				.add("reset")
 			)
+			.add("metrics")
 			.add("list")
 			.add("show")
 			.add("info")
@@ -108,6 +117,60 @@ public class SkriptCommand implements CommandExecutor {
 		}
 	}
 
+	private static final int PROFILE_ENTRIES = 10;
+
+	private static void showProfile(CommandSender sender, String what, List<SkriptProfiler.Entry> entries) {
+		info(sender, "profile." + what);
+		if (entries.isEmpty()) {
+			info(sender, "profile.empty");
+			return;
+		}
+		for (SkriptProfiler.Entry entry : entries) {
+			info(sender, "profile.element", entry.name(), entry.count(), formatNanos(entry.totalNanos()),
+				formatNanos(entry.averageNanos()), formatNanos(entry.stats().getPercentile(0.99)));
+		}
+	}
+
+	private static void showMetrics(CommandSender sender) {
+		if (RuntimeMetrics.isEnabled()) {
+			long seconds = (System.currentTimeMillis() - RuntimeMetrics.getSince()) / 1000;
+			info(sender, "metrics.header", seconds);
+			info(sender, "metrics.triggers");
+			List<SkriptProfiler.Entry> triggers = RuntimeMetrics.getTriggers(PROFILE_ENTRIES);
+			if (triggers.isEmpty())
+				info(sender, "metrics.empty");
+			for (SkriptProfiler.Entry entry : triggers) {
+				info(sender, "metrics.trigger", entry.name(), entry.count(),
+					formatNanos(entry.averageNanos()), formatNanos(entry.stats().getPercentile(0.99)));
+			}
+			info(sender, "metrics.variables", RuntimeMetrics.getVariableReads(false), RuntimeMetrics.getVariableReads(true),
+				RuntimeMetrics.getVariableWrites(false), RuntimeMetrics.getVariableWrites(true));
+		} else {
+			info(sender, "metrics.disabled");
+		}
+		info(sender, "metrics.save queue", Variables.getSaveQueueSize());
+		Variables.getStorageQueueSizes().forEach((database, size) -> info(sender, "metrics.storage queue", database, size));
+		info(sender, "metrics.delays", RuntimeMetrics.getPendingDelays());
+
+		info(sender, "metrics.scripts");
+		List<Map.Entry<String, long[]>> scripts = RuntimeMetrics.getScriptLoads(PROFILE_ENTRIES);
+		if (scripts.isEmpty())
+			info(sender, "metrics.empty");
+		for (Map.Entry<String, long[]> entry : scripts) {
+			long[] stages = entry.getValue();
+			info(sender, "metrics.script", entry.getKey(), formatNanos(RuntimeMetrics.sum(stages)),
+				formatNanos(stages[0]), formatNanos(stages[1] + stages[2] + stages[3]));
+		}
+
+		String url = RuntimeMetrics.getServerUrl();
+		if (url != null)
+			info(sender, "metrics.endpoint", url);
+	}
+
+	private static String formatNanos(long nanos) {
+		return String.format(Locale.ENGLISH, "%.2fms", nanos / 1_000_000.0);
+	}
+
 	private static void info(CommandSender sender, String what, Object... args) {
 		what = args.length == 0 ? Language.get(CONFIG_NODE + "." + what) : PluralizingArgsMessage.format(Language.format(CONFIG_NODE + "." + what, args));
 		Skript.info(sender, StringUtils.fixCapitalization(what));
@@ -345,6 +408,30 @@ public class SkriptCommand implements CommandExecutor {
 				} else if (args[1].equalsIgnoreCase("changes")) {
 					updater.changesCheck(sender);
 				}
+			} else if (args[0].equalsIgnoreCase("profile")) {
+				if (!SkriptProfiler.isEnabled()) {
+					error(sender, "profile.disabled");
+				} else if (args[1].equalsIgnoreCase("show")) {
+					long seconds = (System.currentTimeMillis() - SkriptProfiler.getSince()) / 1000;
+					info(sender, "profile.header", seconds);
+					showProfile(sender, "triggers", SkriptProfiler.getTriggers(PROFILE_ENTRIES));
+					showProfile(sender, "functions", SkriptProfiler.getFunctions(PROFILE_ENTRIES));
+					showProfile(sender, "lines", SkriptProfiler.getItems(PROFILE_ENTRIES));
+				} else if (args[1].equalsIgnoreCase("dump")) {
+					File file = new File(Skript.getInstance().getDataFolder(), "profiles" + File.separator
+						+ "profile-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".json");
+					try {
+						SkriptProfiler.dump(file.toPath());
+						info(sender, "profile.dumped", file.getPath());
+					} catch (IOException e) {
+						Skript.exception(e, "Failed to write the profiler results.");
+					}
+				} else if (args[1].equalsIgnoreCase("reset")) {
+					SkriptProfiler.reset();
+					info(sender, "profile.reset");
+				}
+			} else if (args[0].equalsIgnoreCase("metrics")) {
+				showMetrics(sender);
 			} else if (args[0].equalsIgnoreCase("info")) {
 				info(sender, "info.aliases");
 				info(sender, "info.documentation");
@@ -28,6 +28,10 @@ public class SkriptCommandTabCompleter implements TabCompleter {
 		if (args[0].equalsIgnoreCase("update") && args.length == 2) {
 			options.add("check");
 			options.add("changes");
+		} else if (args[0].equalsIgnoreCase("profile") && args.length == 2) {
+			options.add("show");
+			options.add("dump");
+			options.add("reset");
 		} else if (args[0].matches("(?i)(reload|disable|enable|test)") && args.length >= 2) {
 			boolean useTestDirectory = args[0].equalsIgnoreCase("test") && TestMode.DEV_MODE;
 			File scripts = useTestDirectory ? TestMode.TEST_DIR.toFile() : Skript.getInstance().getScriptsFolder();
@@ -98,6 +102,8 @@ public class SkriptCommandTabCompleter implements TabCompleter {
 			options.add("enable");
 			options.add("disable");
 			options.add("update");
+			options.add("profile");
+			options.add("metrics");
 			options.add("list");
 			options.add("show");
 			options.add("info");
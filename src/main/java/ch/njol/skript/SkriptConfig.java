@@ -4,6 +4,7 @@ import ch.njol.skript.classes.EnumParser;
 import ch.njol.skript.config.Config;
 import ch.njol.skript.config.Option;
 import ch.njol.skript.config.OptionSection;
+import ch.njol.skript.entity.EntityIndex;
 import ch.njol.skript.hooks.Hook;
 import ch.njol.skript.hooks.VaultHook;
 import ch.njol.skript.hooks.regions.GriefPreventionHook;
@@ -14,8 +15,14 @@ import ch.njol.skript.lang.function.Function;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.log.Verbosity;
+import ch.njol.skript.timings.LoadProfiler;
+import ch.njol.skript.timings.RuntimeMetrics;
+import ch.njol.skript.timings.SkriptProfiler;
 import ch.njol.skript.timings.SkriptTimings;
 import ch.njol.skript.update.ReleaseChannel;
+import ch.njol.skript.util.AsyncExecutor;
+import ch.njol.skript.util.BlockBatch;
+import ch.njol.skript.util.ExecutionBudget;
 import ch.njol.skript.util.FileUtils;
 import ch.njol.skript.util.Timespan;
 import ch.njol.skript.util.Version;
@@ -236,6 +243,28 @@ public class SkriptConfig {
 				SkriptTimings.setEnabled(t); // Config option will be used
 			});
 
+	public static final Option<Boolean> profilerEnabled = new Option<>("profiler.enabled", true)
+			.setter(SkriptProfiler::setEnabled)
+			.optional(true);
+
+	public static final Option<Integer> profilerItemSampleInterval = new Option<>("profiler.line sample interval", 100)
+			.setter(SkriptProfiler::setItemSampleInterval)
+			.optional(true);
+
+	public static final Option<Boolean> loadProfilerEnabled = new Option<>("profiler.load profiler", false)
+			.setter(LoadProfiler::setEnabled)
+			.optional(true);
+
+	public static final Option<Boolean> metricsEnabled = new Option<>("metrics.enabled", false)
+			.setter(RuntimeMetrics::setEnabled)
+			.optional(true);
+
+	public static final Option<String> metricsAddress = new Option<>("metrics.http address", "127.0.0.1")
+			.optional(true);
+
+	public static final Option<Integer> metricsPort = new Option<>("metrics.http port", 0)
+			.optional(true);
+
 	public static final Option<String> parseLinks = new Option<>("parse links in chat messages", "disabled")
 			.setter(t -> {
 				try {
@@ -375,6 +404,33 @@ public class SkriptConfig {
 	public static final Option<Integer> runtimeErrorTimeoutDuration = new Option<>("runtime errors.error timeout length", 10);
 	public static final Option<Integer> runtimeWarningTimeoutDuration = new Option<>("runtime errors.warning timeout length", 10);
 
+	public static final Option<Timespan> runtimeErrorSummaryInterval = new Option<>("runtime errors.summary interval", new Timespan(Timespan.TimePeriod.MINUTE, 1))
+		.optional(true);
+
+	public static final Option<Boolean> asyncUseVirtualThreads = new Option<>("async execution.use virtual threads", false)
+		.setter(AsyncExecutor::setUseVirtualThreads)
+		.optional(true);
+
+	public static final Option<Integer> asyncMaxConcurrentTasks = new Option<>("async execution.maximum concurrent tasks", 256)
+		.setter(AsyncExecutor::setMaxInFlight)
+		.optional(true);
+
+	public static final Option<Integer> asyncResumesPerTick = new Option<>("async execution.resumes per tick", 100)
+		.setter(AsyncExecutor::setResumesPerTick)
+		.optional(true);
+
+	public static final Option<Boolean> entityIndex = new Option<>("entity index", false)
+		.setter(EntityIndex::setEnabled)
+		.optional(true);
+
+	public static final Option<Timespan> executionBudgetPerTick = new Option<>("execution budget per tick", new Timespan(0))
+		.setter(ExecutionBudget::setBudget)
+		.optional(true);
+
+	public static final Option<Timespan> blockBatchBudgetPerTick = new Option<>("block batch budget per tick", new Timespan(Timespan.TimePeriod.MILLISECOND, 5))
+		.setter(BlockBatch::setBudget)
+		.optional(true);
+
 	public static final Option<Integer> variableChangesUntilSave = new Option<>("variable changes until save", 1000)
 		.setter(FlatFileStorage::setRequiredChangesForResave);
 
@@ -1,8 +1,12 @@
 package ch.njol.skript;
 
+import ch.njol.skript.effects.Delay;
 import ch.njol.skript.lang.SkriptEvent;
 import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.structures.StructExecution;
+import ch.njol.skript.timings.RuntimeMetrics;
 import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.util.ExecutionBudget;
 import ch.njol.skript.util.Task;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
@@ -162,7 +166,9 @@ public final class SkriptEventHandler {
 		Runnable execute = () -> {
 			logTriggerStart(trigger);
 			Object timing = SkriptTimings.start(trigger.getDebugLabel());
+			long start = RuntimeMetrics.start();
 			trigger.execute(event);
+			RuntimeMetrics.recordTrigger(event, start);
 			SkriptTimings.stop(timing);
 			logTriggerEnd(trigger);
 		};
@@ -172,8 +178,18 @@ public final class SkriptEventHandler {
 				execute.run();
 		} else { // Ensure main thread
 			Task.callSync(() -> {
-				if (trigger.getEvent().check(event))
+				if (!trigger.getEvent().check(event))
+					return null;
+				// Triggers of cancellable events may decide whether their event happens, so they are never deferred
+				if (ExecutionBudget.isExceeded() && !(event instanceof Cancellable) && StructExecution.isLowPriority(trigger.getScript())) {
+					// The event has passed by the time the trigger runs
+					ExecutionBudget.deferTrigger(() -> {
+						Delay.addDelayedEvent(event);
+						execute.run();
+					});
+				} else {
 					execute.run();
+				}
 				return null; // we don't care about a return value
 			});
 		}
@@ -10,6 +10,7 @@ import ch.njol.skript.entity.EntityData;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.localization.*;
 import ch.njol.skript.log.BlockingLogHandler;
+import ch.njol.skript.log.CountingLogHandler;
 import ch.njol.skript.util.EnchantmentType;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.util.Version;
@@ -21,17 +22,24 @@ import org.bukkit.Registry;
 import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.script.Script;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public abstract class Aliases {
 	static final boolean USING_ITEM_COMPONENTS = Skript.isRunningMinecraft(1, 20, 5);
@@ -468,6 +476,7 @@ public abstract class Aliases {
 
 		// Load aliases.zip OR aliases from jar (never both)
 		Path zipPath = dataFolder.resolve("aliases-english.zip");
+		Path cachePath = dataFolder.resolve("cache").resolve("aliases.bin");
 		if (!SkriptConfig.loadDefaultAliases.value()) {
 			// Or do nothing, if user requested that default aliases are not loaded
 		} else if (Files.exists(zipPath)) { // Load if it exists
@@ -475,7 +484,7 @@ public abstract class Aliases {
 				assert zipFs != null; // It better not be...
 				Path aliasesPath = zipFs.getPath("/");
 				assert aliasesPath != null;
-				loadDirectory(aliasesPath);
+				loadDefaultAliases(aliasesPath, cachePath);
 			}
 		} else { // Fall back to jar loading
 			try {
@@ -484,7 +493,7 @@ public abstract class Aliases {
 					assert zipFs != null;
 					Path aliasesPath = zipFs.getPath("/", "aliases-english");
 					assert aliasesPath != null;
-					loadDirectory(aliasesPath);
+					loadDefaultAliases(aliasesPath, cachePath);
 				}
 			} catch (URISyntaxException e) {
 				assert false;
@@ -514,30 +523,128 @@ public abstract class Aliases {
 		}
 	}
 
+	/**
+	 * Loads Skript's default aliases from given directory. If the aliases are the same as when they were
+	 * last loaded on this server, they are loaded from the aliases cache instead, and otherwise cached.
+	 * @param dir Directory of the default aliases.
+	 * @param cachePath Path of the aliases cache.
+	 * @throws IOException If something goes wrong with loading.
+	 */
+	private static void loadDefaultAliases(Path dir, Path cachePath) throws IOException {
+		List<Path> files = listFiles(dir);
+		List<byte[]> contents = readFiles(files);
+		List<String> names = files.stream()
+			.map(file -> dir.relativize(file).toString())
+			.toList();
+		String key = AliasesCache.key(names, contents);
+		if (AliasesCache.replay(cachePath, key, provider)) {
+			Skript.debug("Loaded the default aliases from the aliases cache");
+			return;
+		}
+
+		AliasesCache cache = new AliasesCache();
+		provider.recorder = cache;
+		try (CountingLogHandler errors = new CountingLogHandler(Level.SEVERE).start()) {
+			boolean failed = !load(files, contents);
+			// Only cache aliases that load without errors, so that errors are never hidden by the cache
+			if (!failed && errors.getCount() == 0) {
+				try {
+					cache.save(cachePath, key);
+				} catch (IOException e) {
+					Skript.warning("Could not save the aliases cache: " + e.getMessage());
+				}
+			}
+		} finally {
+			provider.recorder = null;
+		}
+	}
+
 	/**
 	 * Loads aliases from given directory.
 	 * @param dir Directory of aliases.
 	 * @throws IOException If something goes wrong with loading.
 	 */
 	public static void loadDirectory(Path dir) throws IOException {
+		List<Path> files = listFiles(dir);
+		load(files, readFiles(files));
+	}
+
+	/**
+	 * Lists the alias files in given directory and its subdirectories, in the order they are loaded in.
+	 * @param dir Directory of aliases.
+	 * @return The alias files.
+	 * @throws IOException If the directory could not be listed.
+	 */
+	private static List<Path> listFiles(Path dir) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> stream = Files.list(dir)) {
+			for (Path file : stream.sorted().toList()) {
+				String name = file.getFileName().toString();
+				if (Files.isDirectory(file) && !name.startsWith("."))
+					files.addAll(listFiles(file));
+				else if (name.endsWith(".sk"))
+					files.add(file);
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Reads the given files in parallel.
+	 * @param files Files to read.
+	 * @return The contents of the files, in the same order.
+	 * @throws IOException If a file could not be read.
+	 */
+	private static List<byte[]> readFiles(List<Path> files) throws IOException {
 		try {
-			Files.list(dir).sorted().forEach((f) -> {
-				assert f != null;
-				try {
-					String name = f.getFileName().toString();
-					if (Files.isDirectory(f) && !name.startsWith("."))
-						loadDirectory(f);
-					else if (name.endsWith(".sk"))
-						load(f);
-				} catch (IOException e) {
-					throw new UncheckedIOException(e);
-				}
-			});
+			return files.parallelStream()
+				.map(file -> {
+					try {
+						return Files.readAllBytes(file);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				})
+				.toList();
 		} catch (UncheckedIOException e) {
 			throw e.getCause();
 		}
 	}
 
+	/**
+	 * Loads aliases from given files. The files are parsed in parallel, but loaded in the given order,
+	 * as aliases and variations may refer to those of earlier files.
+	 * @param files Alias files.
+	 * @param contents Contents of the alias files, in the same order.
+	 * @return Whether all files were parsed without errors.
+	 * @throws IOException If a file could not be parsed.
+	 */
+	private static boolean load(List<Path> files, List<byte[]> contents) throws IOException {
+		AtomicBoolean success = new AtomicBoolean(true);
+		List<Config> configs;
+		try {
+			configs = IntStream.range(0, files.size()).parallel()
+				.mapToObj(i -> {
+					try (CountingLogHandler errors = new CountingLogHandler(Level.SEVERE).start()) {
+						Config config = new Config(new ByteArrayInputStream(contents.get(i)),
+							"" + files.get(i).getFileName(), false, false, "=");
+						if (errors.getCount() > 0)
+							success.set(false);
+						return config;
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				})
+				.toList();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		for (Config config : configs)
+			load(config);
+		return success.get();
+	}
+
 	/**
 	 * Loads aliases from given path.
 	 * @param f Path of alias file.
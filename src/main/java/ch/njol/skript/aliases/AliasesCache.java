@@ -0,0 +1,222 @@
+package ch.njol.skript.aliases;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.aliases.AliasesProvider.AliasName;
+import ch.njol.skript.aliases.AliasesProvider.Variation;
+import ch.njol.skript.aliases.AliasesProvider.VariationGroup;
+import ch.njol.skript.localization.ArgsMessage;
+import com.google.gson.Gson;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache of the aliases and variation groups added to an {@link AliasesProvider} while loading a set of alias files.
+ * <p>
+ * While the files are loaded, everything added to the provider is recorded. If the files were loaded without errors,
+ * the recording is saved along with a key derived from the contents of the files, the server version and the Skript version.
+ * When the same files are loaded again on the same server, the recording is replayed into the provider
+ * instead of parsing the files again.
+ */
+final class AliasesCache {
+
+	private static final ArgsMessage m_invalid_minecraft_id = new ArgsMessage("aliases.invalid minecraft id");
+
+	private static final int MAGIC = 0x534B414C; // SKAL
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte END = 0;
+	private static final byte ALIAS = 1;
+	private static final byte VARIATION_GROUP = 2;
+
+	private static final Gson GSON = new Gson();
+
+	private final ByteArrayOutputStream recording = new ByteArrayOutputStream();
+	private final DataOutputStream out = new DataOutputStream(recording);
+	@Nullable
+	private IOException failure;
+
+	/**
+	 * Computes the key of a set of alias files.
+	 * @param names The names of the files, in the order they are loaded in.
+	 * @param contents The contents of the files, in the same order.
+	 * @return The key of the files on this server.
+	 */
+	static String key(List<String> names, List<byte[]> contents) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // Every Java platform supports SHA-256
+		}
+		digest.update((Skript.getVersion() + "\n" + Bukkit.getVersion() + "\n").getBytes(StandardCharsets.UTF_8));
+		for (int i = 0; i < names.size(); i++) {
+			digest.update((names.get(i) + "\n").getBytes(StandardCharsets.UTF_8));
+			digest.update(contents.get(i));
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Replays a saved recording into the given provider, if its key matches.
+	 * Nothing is added to the provider if the file is missing, outdated or corrupted.
+	 * @param file The file the recording was saved to.
+	 * @param key The key of the alias files that are being loaded.
+	 * @param provider The provider to add the aliases to.
+	 * @return Whether the recording was replayed.
+	 */
+	static boolean replay(Path file, String key, AliasesProvider provider) {
+		if (!Files.isRegularFile(file))
+			return false;
+
+		// Read everything before adding anything, so that a corrupted file does not leave the provider half loaded
+		List<Runnable> additions = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(key))
+				return false;
+			byte type;
+			while ((type = in.readByte()) != END) {
+				switch (type) {
+					case ALIAS -> {
+						AliasName name = new AliasName(in.readUTF(), in.readUTF(), in.readInt());
+						String id = in.readUTF();
+						Map<String, Object> tags = in.readBoolean() ? provider.parseMojangson(in.readUTF()) : null;
+						Map<String, String> blockStates = readStates(in);
+						additions.add(() -> {
+							try {
+								provider.addAlias(name, id, tags, blockStates);
+							} catch (InvalidMinecraftIdException e) {
+								Skript.error(m_invalid_minecraft_id.toString(e.getId()));
+							}
+						});
+					}
+					case VARIATION_GROUP -> {
+						String name = in.readUTF();
+						VariationGroup group = new VariationGroup();
+						for (int i = in.readInt(); i > 0; i--) {
+							String variationKey = in.readUTF();
+							String id = in.readBoolean() ? in.readUTF() : null;
+							int insertPoint = in.readInt();
+							Map<String, Object> tags = provider.parseMojangson(in.readUTF());
+							group.put(variationKey, new Variation(id, insertPoint, tags, readStates(in)));
+						}
+						additions.add(() -> provider.addVariationGroup(name, group));
+					}
+					default -> {
+						return false;
+					}
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			Skript.debug("Could not read the aliases cache: " + e);
+			return false;
+		}
+
+		additions.forEach(Runnable::run);
+		return true;
+	}
+
+	/**
+	 * Records an alias added to the provider.
+	 * Must be called before the provider modifies the given values.
+	 */
+	void recordAlias(AliasName name, String id, @Nullable Map<String, Object> tags, Map<String, String> blockStates) {
+		try {
+			out.writeByte(ALIAS);
+			out.writeUTF(name.singular);
+			out.writeUTF(name.plural);
+			out.writeInt(name.gender);
+			out.writeUTF(id);
+			out.writeBoolean(tags != null);
+			if (tags != null)
+				out.writeUTF(GSON.toJson(tags));
+			writeStates(blockStates);
+		} catch (IOException e) {
+			failure = e;
+		}
+	}
+
+	/**
+	 * Records a variation group added to the provider.
+	 */
+	void recordVariationGroup(String name, VariationGroup group) {
+		try {
+			out.writeByte(VARIATION_GROUP);
+			out.writeUTF(name);
+			out.writeInt(group.keys.size());
+			for (int i = 0; i < group.keys.size(); i++) {
+				Variation variation = group.values.get(i);
+				out.writeUTF(group.keys.get(i));
+				String id = variation.getId();
+				out.writeBoolean(id != null);
+				if (id != null)
+					out.writeUTF(id);
+				out.writeInt(variation.getInsertPoint());
+				out.writeUTF(GSON.toJson(variation.getTags()));
+				writeStates(variation.getBlockStates());
+			}
+		} catch (IOException e) {
+			failure = e;
+		}
+	}
+
+	/**
+	 * Saves the recording, replacing any previous one.
+	 * @param file The file to save the recording to.
+	 * @param key The key of the recorded alias files.
+	 * @throws IOException If the recording failed or could not be saved.
+	 */
+	void save(Path file, String key) throws IOException {
+		if (failure != null)
+			throw failure;
+		out.writeByte(END);
+
+		Path parent = file.getParent();
+		if (parent != null)
+			Files.createDirectories(parent);
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+			DataOutputStream header = new DataOutputStream(stream);
+			header.writeInt(MAGIC);
+			header.writeInt(FORMAT_VERSION);
+			header.writeUTF(key);
+			recording.writeTo(stream);
+		}
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private void writeStates(Map<String, String> states) throws IOException {
+		out.writeInt(states.size());
+		for (Map.Entry<String, String> entry : states.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readStates(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, String> states = new HashMap<>(size);
+		for (int i = 0; i < size; i++)
+			states.put(in.readUTF(), in.readUTF());
+		return states;
+	}
+
+}
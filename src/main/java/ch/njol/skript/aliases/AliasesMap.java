@@ -2,6 +2,8 @@ package ch.njol.skript.aliases;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Material;
 import org.jetbrains.annotations.Nullable;
@@ -10,6 +12,9 @@ import ch.njol.skript.entity.EntityData;
 
 /**
  * Stores the aliases.
+ * <p>
+ * Aliases are indexed by their material. As items without item meta of the same material, form and block state
+ * always match the same alias, the matches of such items are memoized per material.
  */
 public class AliasesMap {
 	
@@ -106,12 +111,61 @@ public class AliasesMap {
 		 */
 		public final List<AliasData> items;
 		
+		/**
+		 * Memoized results of {@link #matchAlias(ItemData)} and {@link #exactMatch(ItemData)}
+		 * for items without item meta, by their {@link MatchKey}.
+		 * Cleared whenever an alias is added to this entry.
+		 */
+		public final Map<MatchKey, Match> matches = new ConcurrentHashMap<>();
+		public final Map<MatchKey, Match> exactMatches = new ConcurrentHashMap<>();
+		
 		public MaterialEntry() {
 			this.items = new ArrayList<>();
 		}
 		
 	}
 	
+	/**
+	 * Identifies items of a material whose matches against all aliases of the material are the same.
+	 * @param itemForm Whether the items are in item form.
+	 * @param state The {@link ch.njol.skript.bukkitutil.block.BlockValues#getStateKey() block state} of the items, if any.
+	 */
+	private record MatchKey(boolean itemForm, @Nullable Object state) {
+		
+		private static final MatchKey ITEM = new MatchKey(true, null);
+		private static final MatchKey BLOCK = new MatchKey(false, null);
+		
+		/**
+		 * Gets the key of an item, if its matches can be memoized.
+		 * That is the case if it has no item meta (and thus no damage either),
+		 * as the matches then only depend on its material, form and block state.
+		 * @param item The item to get the key of.
+		 * @return The key of the item, or null if its matches must not be memoized.
+		 */
+		@Nullable
+		static MatchKey of(ItemData item) {
+			if (item.isAnything || item.stack != null && item.stack.hasItemMeta())
+				return null;
+			if (item.blockValues == null)
+				return item.itemForm ? ITEM : BLOCK;
+			Object state = item.blockValues.getStateKey();
+			return state == null ? null : new MatchKey(item.itemForm, state);
+		}
+		
+		/**
+		 * Gets a copy of this key that can be stored, as the state of a key used for lookups may be backed by the item.
+		 * @param item The item this key was obtained from.
+		 * @return The key to store.
+		 */
+		MatchKey copy(ItemData item) {
+			if (state == null)
+				return this;
+			assert item.blockValues != null;
+			return new MatchKey(itemForm, item.blockValues.copyStateKey());
+		}
+		
+	}
+	
 	/**
 	 * One material entry per material. Ordinal of material is index of entry.
 	 */
@@ -135,6 +189,8 @@ public class AliasesMap {
 		} else {
 			entry.items.add(data);
 		}
+		entry.matches.clear();
+		entry.exactMatches.clear();
 	}
 	
 	/**
@@ -144,7 +200,18 @@ public class AliasesMap {
 	 */
 	public Match matchAlias(ItemData item) {
 		MaterialEntry entry = getEntry(item);
-		
+		MatchKey key = MatchKey.of(item);
+		if (key == null)
+			return matchAlias(entry, item);
+		Match match = entry.matches.get(key);
+		if (match == null) {
+			match = matchAlias(entry, item);
+			entry.matches.put(key.copy(item), match);
+		}
+		return match;
+	}
+	
+	private Match matchAlias(MaterialEntry entry, ItemData item) {
 		// Special case: no aliases available!
 		if (entry.defaultItem == null && entry.items.isEmpty()) {
 			return new Match(MatchQuality.DIFFERENT, null);
@@ -187,7 +254,18 @@ public class AliasesMap {
 	 */
 	public Match exactMatch(ItemData item) {
 		MaterialEntry entry = getEntry(item);
-		
+		MatchKey key = MatchKey.of(item);
+		if (key == null)
+			return exactMatch(entry, item);
+		Match match = entry.exactMatches.get(key);
+		if (match == null) {
+			match = exactMatch(entry, item);
+			entry.exactMatches.put(key.copy(item), match);
+		}
+		return match;
+	}
+	
+	private Match exactMatch(MaterialEntry entry, ItemData item) {
 		// Special case: no aliases available!
 		if (entry.defaultItem == null && entry.items.isEmpty()) {
 			return new Match(MatchQuality.DIFFERENT, null);
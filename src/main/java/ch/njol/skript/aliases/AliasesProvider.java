@@ -53,6 +53,12 @@ public class AliasesProvider {
 	 */
 	private final AliasesMap aliasesMap;
 
+	/**
+	 * Records everything added to this provider while alias files that are being cached are loaded.
+	 */
+	@Nullable
+	AliasesCache recorder;
+
 	/**
 	 * Constructs a new aliases provider with no data.
 	 */
@@ -120,6 +126,9 @@ public class AliasesProvider {
 	 * @param blockStates Block states.
 	 */
 	public void addAlias(AliasName name, String id, @Nullable Map<String, Object> tags, Map<String, String> blockStates) {
+		if (recorder != null)
+			recorder.recordAlias(name, id, tags, blockStates);
+
 		// First, try to find if aliases already has a type with this id
 		// (so that aliases can refer to each other)
 		ItemType typeOfId = getAlias(id);
@@ -210,6 +219,8 @@ public class AliasesProvider {
 	}
 
 	public void addVariationGroup(String name, VariationGroup group) {
+		if (recorder != null)
+			recorder.recordVariationGroup(name, group);
 		variations.put(name, group);
 	}
 
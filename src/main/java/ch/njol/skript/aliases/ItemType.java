@@ -92,6 +92,14 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	 */
 	final ArrayList<ItemData> types = new ArrayList<>(2);
 
+	/**
+	 * The materials of {@link #types}, used to reject items of other materials
+	 * without creating an {@link ItemData} for them. Computed when first needed and
+	 * reset whenever {@link #types} changes. Contains every material if one of the types matches anything.
+	 */
+	@Nullable
+	private transient volatile Set<Material> materials;
+
 	/**
 	 * Whether this ItemType represents all types or not.
 	 */
@@ -209,6 +217,7 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 		for (final ItemData d : i) {
 			types.add(d.clone());
 		}
+		materials = null;
 	}
 
 	public ItemType(Block block) {
@@ -270,6 +279,8 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	public boolean isOfType(@Nullable ItemStack item) {
 		if (item == null)
 			return isOfType(Material.AIR, null);
+		if (!hasMaterial(item.getType()))
+			return false;
 		return isOfType(new ItemData(item));
 	}
 
@@ -284,7 +295,8 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	public boolean isOfType(@Nullable BlockData blockData) {
 		if (blockData == null)
 			return isOfType(Material.AIR, null);
-
+		if (!hasMaterial(blockData.getMaterial()))
+			return false;
 		return isOfType(new ItemData(blockData));
 	}
 
@@ -295,6 +307,8 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	}
 
 	public boolean isOfType(ItemData type) {
+		if (!type.isAnything && !hasMaterial(type.type))
+			return false;
 		for (final ItemData myType : types) {
 			if (myType.equals(type)) {
 				return true;
@@ -304,14 +318,49 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	}
 
 	public boolean isOfType(Material id, @Nullable String tags) {
+		if (!hasMaterial(id))
+			return false;
 		return isOfType(new ItemData(id, tags));
 	}
 
 	public boolean isOfType(Material id) {
-		// TODO avoid object creation
+		if (!hasMaterial(id))
+			return false;
 		return isOfType(new ItemData(id, (String) null));
 	}
 
+	/**
+	 * A fast check whether any of the types of this ItemType could match the given material.
+	 * If this returns false, no item, block or {@link ItemData} of that material is of this type.
+	 * @param material The material to check.
+	 * @return Whether items of the given material may be of this type.
+	 */
+	private boolean hasMaterial(Material material) {
+		return getMaterials().contains(material);
+	}
+
+	/**
+	 * Gets the materials that items, blocks and {@link ItemData}s must be of to be of this type.
+	 * Being of one of these materials does not imply being of this type.
+	 * @return An unmodifiable set of the materials of this type.
+	 */
+	public Set<Material> getMaterials() {
+		Set<Material> materials = this.materials;
+		if (materials == null) {
+			EnumSet<Material> computed = EnumSet.noneOf(Material.class);
+			for (ItemData data : types) {
+				if (data.isAnything) {
+					computed = EnumSet.allOf(Material.class);
+					break;
+				}
+				computed.add(data.type);
+			}
+			materials = Collections.unmodifiableSet(computed);
+			this.materials = materials;
+		}
+		return materials;
+	}
+
 	/**
 	 * Checks if this type represents all the items represented by given
 	 * item type. This type may of course also represent other items.
@@ -515,18 +564,21 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 		if (type != null) {
 			types.add(type);
 			//numItems += type.numItems();
+			materials = null;
 			modified();
 		}
 	}
 
 	public void addAll(Collection<ItemData> types) {
 		this.types.addAll(types);
+		materials = null;
 		modified();
 	}
 
 	public void remove(ItemData type) {
 		if (types.remove(type)) {
 			//numItems -= type.numItems();
+			materials = null;
 			modified();
 		}
 	}
@@ -534,6 +586,7 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	void remove(int index) {
 		types.remove(index);
 		//numItems -= type.numItems();
+		materials = null;
 		modified();
 	}
 
@@ -1256,6 +1309,7 @@ public class ItemType implements Unit, Iterable<ItemData>, Container<ItemStack>,
 	@Override
 	public void deserialize(final Fields fields) throws StreamCorruptedException, NotSerializableException {
 		fields.setFields(this);
+		materials = null;
 
 		// Legacy data (before aliases rework) update
 		if (!types.isEmpty()) {
@@ -18,5 +18,26 @@ public abstract class BlockValues implements YggdrasilExtendedSerializable {
 	
 	@Override
 	public abstract int hashCode();
+
+	/**
+	 * Gets a key that identifies the exact block state these values represent.
+	 * Values with equal keys must be matched {@link ch.njol.skript.aliases.MatchQuality#EXACT exactly}
+	 * and identically against any other values.
+	 * The key may be backed by these values, so it must only be used for lookups.
+	 * Use {@link #copyStateKey()} for a key that can be stored.
+	 * @return A key for these values, or null if there is none.
+	 */
+	@Nullable
+	public Object getStateKey() {
+		return null;
+	}
+
+	/**
+	 * @return An immutable copy of the {@link #getStateKey() key} of these values, or null if there is none.
+	 */
+	@Nullable
+	public Object copyStateKey() {
+		return getStateKey();
+	}
 	
 }
@@ -83,6 +83,16 @@ public class NewBlockCompat implements BlockCompat {
 			return data.toString() + (isDefault ? " (default)" : "");
 		}
 
+		@Override
+		public BlockData getStateKey() {
+			return data;
+		}
+
+		@Override
+		public BlockData copyStateKey() {
+			return data.clone(); // Block data is mutable
+		}
+
 		@Override
 		public MatchQuality match(BlockValues other) {
 			if (!(other instanceof NewBlockValues)) {
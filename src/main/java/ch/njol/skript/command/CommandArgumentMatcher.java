@@ -0,0 +1,246 @@
+package ch.njol.skript.command;
+
+import ch.njol.skript.classes.ClassInfo;
+import ch.njol.skript.classes.Parser;
+import ch.njol.skript.lang.ParseContext;
+import ch.njol.skript.lang.SkriptParser;
+import ch.njol.skript.registrations.Classes;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A matcher for the arguments of a {@link ScriptCommand}, compiled from its pattern when the command is loaded.
+ * <p>
+ * Most commands consist of words and arguments separated by single spaces, such as {@code /pay <player> <number>}.
+ * For these, the input is split at its spaces and each part is given to the parsers of its argument's type directly,
+ * instead of matching the input against the command's pattern with a {@link SkriptParser}.
+ * Only arguments of types whose values never contain spaces (players and numbers) and text are supported.
+ * A text argument must be the last one and receives the rest of the input.
+ * <p>
+ * The matcher only succeeds if the input can't be understood any other way by the pattern.
+ * Whenever it fails, the input must be parsed by {@link SkriptParser#parseArguments(String, ScriptCommand, ScriptCommandEvent)},
+ * which also reports why the input is invalid.
+ */
+final class CommandArgumentMatcher {
+
+	private final Element[] elements;
+	private final int argumentCount;
+
+	private CommandArgumentMatcher(Element[] elements, int argumentCount) {
+		this.elements = elements;
+		this.argumentCount = argumentCount;
+	}
+
+	/**
+	 * Compiles the pattern of a command.
+	 * @param pattern The pattern of the command, as created by {@link ch.njol.skript.structures.StructCommand}.
+	 * @param arguments The arguments of the command, in the order they appear in the pattern.
+	 * @return The matcher, or null if the pattern isn't supported.
+	 */
+	static @Nullable CommandArgumentMatcher compile(String pattern, List<Argument<?>> arguments) {
+		if (pattern.isEmpty())
+			return arguments.isEmpty() ? new CommandArgumentMatcher(new Element[0], 0) : null;
+
+		List<Element> elements = new ArrayList<>();
+		int argumentIndex = 0;
+		int depth = 0;
+		boolean optionalSeen = false;
+		for (String token : pattern.split(" ", -1)) {
+			int start = 0, end = token.length();
+			while (start < end && token.charAt(start) == '[')
+				start++;
+			depth += start;
+			while (end > start && token.charAt(end - 1) == ']')
+				end--;
+			String content = token.substring(start, end);
+			if (content.isEmpty())
+				return null;
+
+			if (content.length() > 2 && content.charAt(0) == '%' && content.charAt(content.length() - 1) == '%') {
+				if (argumentIndex >= arguments.size())
+					return null;
+				Argument<?> argument = arguments.get(argumentIndex++);
+				boolean optional = depth > 0;
+				if (optional != argument.isOptional() || (content.charAt(1) == '-') != optional)
+					return null;
+				// required arguments after optional ones could be matched in more than one way
+				if (optionalSeen && !optional)
+					return null;
+				optionalSeen |= optional;
+				ArgumentElement element = ArgumentElement.of(argument);
+				if (element == null)
+					return null;
+				elements.add(element);
+			} else {
+				if (depth > 0 || optionalSeen || !isPlainWord(content))
+					return null;
+				elements.add(new LiteralElement(content.toLowerCase(Locale.ENGLISH)));
+			}
+
+			depth -= token.length() - end;
+			if (depth < 0)
+				return null;
+		}
+		if (depth != 0 || argumentIndex != arguments.size())
+			return null;
+
+		// text receives the rest of the input, so it must be last
+		for (int i = 0; i < elements.size() - 1; i++) {
+			if (elements.get(i) instanceof ArgumentElement argument && argument.rest)
+				return null;
+		}
+		return new CommandArgumentMatcher(elements.toArray(new Element[0]), argumentIndex);
+	}
+
+	private static boolean isPlainWord(String word) {
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			if ("[](|)<>%\\".indexOf(c) != -1 || Character.isWhitespace(c))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Matches the input of a command and sets the values of its arguments.
+	 * Parsers may log errors, so this must be called while a parse log handler is active,
+	 * which should be cleared if this method fails.
+	 * @param input The input after the command's label.
+	 * @param event The event to set the arguments' values for.
+	 * @return Whether the input was matched. If not, no argument was set.
+	 */
+	boolean match(String input, ScriptCommandEvent event) {
+		Object[] values = new Object[argumentCount];
+		int length = input.length();
+		int position = 0;
+		int argumentIndex = 0;
+		for (Element element : elements) {
+			if (position == length) {
+				if (element instanceof ArgumentElement argument && argument.optional) {
+					argumentIndex++;
+					continue;
+				}
+				return false;
+			}
+
+			int end;
+			if (element instanceof ArgumentElement argument && argument.rest) {
+				end = length;
+			} else {
+				end = input.indexOf(' ', position);
+				if (end == -1)
+					end = length;
+			}
+			if (end == position) // more than one space
+				return false;
+			String token = input.substring(position, end);
+
+			if (element instanceof LiteralElement literal) {
+				if (!token.equalsIgnoreCase(literal.word))
+					return false;
+			} else {
+				Object value = ((ArgumentElement) element).parse(token);
+				if (value == null)
+					return false;
+				values[argumentIndex++] = value;
+			}
+
+			if (end == length) {
+				position = length;
+			} else {
+				position = end + 1;
+				if (position == length) // trailing space
+					return false;
+			}
+		}
+		if (position != length)
+			return false;
+
+		argumentIndex = 0;
+		for (Element element : elements) {
+			if (!(element instanceof ArgumentElement argument))
+				continue;
+			Object value = values[argumentIndex++];
+			if (value == null) {
+				argument.argument.setToDefault(event);
+			} else {
+				Object[] array = (Object[]) Array.newInstance(value.getClass(), 1);
+				array[0] = value;
+				argument.argument.set(event, array);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Completes the last word of a command's input.
+	 * @param args The words of the input, the last of which is being completed.
+	 * @return The possible completions, or null if the names of online players should be suggested.
+	 */
+	@Nullable List<String> complete(String[] args) {
+		int index = args.length - 1;
+		if (index < 0)
+			return Collections.emptyList();
+		if (index >= elements.length) {
+			// further words of text belong to the last argument, which has nothing to complete either way
+			return Collections.emptyList();
+		}
+		Element element = elements[index];
+		if (element instanceof LiteralElement literal) {
+			if (literal.word.startsWith(args[index].toLowerCase(Locale.ENGLISH)))
+				return Collections.singletonList(literal.word);
+			return Collections.emptyList();
+		}
+		if (OfflinePlayer.class.isAssignableFrom(((ArgumentElement) element).argument.getType()))
+			return null;
+		return Collections.emptyList();
+	}
+
+	private sealed interface Element permits LiteralElement, ArgumentElement { }
+
+	private record LiteralElement(String word) implements Element { }
+
+	private record ArgumentElement(Argument<?> argument, Parser<?>[] parsers, boolean optional, boolean rest) implements Element {
+
+		/**
+		 * @return An element for the argument, or null if its type isn't supported.
+		 */
+		static @Nullable ArgumentElement of(Argument<?> argument) {
+			if (!argument.isSingle())
+				return null;
+			Class<?> type = argument.getType();
+			if (type != String.class && !OfflinePlayer.class.isAssignableFrom(type) && !Number.class.isAssignableFrom(type))
+				return null;
+			// the same parsers in the same order as Classes#parseSimple
+			List<Parser<?>> parsers = new ArrayList<>();
+			for (ClassInfo<?> info : Classes.getClassInfos()) {
+				Parser<?> parser = info.getParser();
+				if (parser != null && parser.canParse(ParseContext.COMMAND) && type.isAssignableFrom(info.getC()))
+					parsers.add(parser);
+			}
+			if (parsers.isEmpty())
+				return null;
+			return new ArgumentElement(argument, parsers.toArray(new Parser[0]), argument.isOptional(), type == String.class);
+		}
+
+		@Nullable Object parse(String token) {
+			// literals with a specified type, e.g. '5 (number)', are only understood by the generic parser
+			if (token.endsWith(")") && token.contains("("))
+				return null;
+			for (Parser<?> parser : parsers) {
+				Object value = parser.parse(token, ParseContext.COMMAND);
+				if (value != null)
+					return value;
+			}
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,94 @@
+package ch.njol.skript.command;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.util.Date;
+import ch.njol.skript.util.TimerWheel;
+import ch.njol.skript.variables.Variables;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the last usages of a {@link ScriptCommand} with a cooldown, as timestamps in milliseconds.
+ * <p>
+ * Last usages kept in memory are removed by the {@link TimerWheel} once their cooldown is over,
+ * unless {@link SkriptConfig#keepLastUsageDates} is enabled, so that players who used a command once
+ * don't stay in memory forever.
+ * <p>
+ * Last usages kept in variables, when the command has a cooldown storage, are written to their variable right away,
+ * so that scripts using the variable always see the current last usage, and their own changes aren't overwritten.
+ * The variable storage writes changed variables in batches on its own thread.
+ */
+final class CooldownStore {
+
+	/**
+	 * The timestamp of a player who has no last usage.
+	 */
+	static final long NONE = Long.MIN_VALUE;
+
+	private static final long MILLIS_PER_TICK = 50;
+
+	private final long cooldown;
+
+	private final Map<UUID, Long> lastUsages = new ConcurrentHashMap<>();
+
+	/**
+	 * @param cooldown The cooldown of the command in milliseconds.
+	 */
+	CooldownStore(long cooldown) {
+		this.cooldown = cooldown;
+	}
+
+	/**
+	 * @return The last usage of a player kept in memory, or {@link #NONE}.
+	 */
+	long get(UUID uuid) {
+		Long lastUsage = lastUsages.get(uuid);
+		return lastUsage == null ? NONE : lastUsage;
+	}
+
+	/**
+	 * Sets the last usage of a player kept in memory.
+	 * @param lastUsage The last usage, or {@link #NONE} to remove it.
+	 */
+	void set(UUID uuid, long lastUsage) {
+		if (lastUsage == NONE) {
+			lastUsages.remove(uuid);
+			return;
+		}
+		lastUsages.put(uuid, lastUsage);
+		if (!SkriptConfig.keepLastUsageDates.value()) {
+			long remaining = lastUsage + cooldown - System.currentTimeMillis();
+			// only removes the last usage if it hasn't been changed since
+			TimerWheel.schedule(() -> lastUsages.remove(uuid, lastUsage), Math.max(remaining, 0) / MILLIS_PER_TICK + 1);
+		}
+	}
+
+	/**
+	 * @param variable The name of the variable storing the last usage.
+	 * @return The last usage stored in the variable, or {@link #NONE}.
+	 */
+	long getStored(String variable) {
+		Object value = Variables.getVariable(variable, null, false);
+		if (value == null)
+			return NONE;
+		if (!(value instanceof Date date)) {
+			Skript.warning("Variable {" + variable + "} was not a date! You may be using this variable elsewhere. " +
+					"This warning is letting you know that this variable is now overridden for the command storage.");
+			return NONE;
+		}
+		return date.getTime();
+	}
+
+	/**
+	 * Sets the last usage stored in a variable.
+	 * @param variable The name of the variable storing the last usage.
+	 * @param lastUsage The last usage, or {@link #NONE} to delete the variable.
+	 */
+	void setStored(String variable, long lastUsage) {
+		Variables.setVariable(variable, lastUsage == NONE ? null : new Date(lastUsage), null, false);
+	}
+
+}
@@ -26,7 +26,6 @@ import ch.njol.skript.util.Utils;
 import ch.njol.skript.util.chat.BungeeConverter;
 import ch.njol.skript.util.chat.MessageComponent;
 import ch.njol.skript.variables.HintManager;
-import ch.njol.skript.variables.Variables;
 import ch.njol.util.StringUtils;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
@@ -59,7 +58,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -92,13 +90,16 @@ public class ScriptCommand implements TabExecutor {
 
 	private final String pattern;
 	private final List<Argument<?>> arguments;
+	@Nullable
+	private final CommandArgumentMatcher argumentMatcher;
 
 	public final static int PLAYERS = 0x1, CONSOLE = 0x2, BOTH = PLAYERS | CONSOLE;
 	final int executableBy;
 
 	private transient PluginCommand bukkitCommand;
 
-	private Map<UUID,Date> lastUsageMap = new HashMap<>();
+	@Nullable
+	private final CooldownStore cooldowns;
 
 	//<editor-fold default-state="collapsed" desc="public ScriptCommand(... String usage ...)">
 	/**
@@ -193,6 +194,7 @@ public class ScriptCommand implements TabExecutor {
 				: cooldownMessage;
 		this.cooldownBypass = cooldownBypass;
 		this.cooldownStorage = cooldownStorage;
+		this.cooldowns = cooldown == null ? null : new CooldownStore(cooldown.getAs(Timespan.TimePeriod.MILLISECOND));
 
 		// remove aliases that are the same as the command
 		aliases.removeIf(label::equalsIgnoreCase);
@@ -206,6 +208,7 @@ public class ScriptCommand implements TabExecutor {
 
 		this.pattern = pattern;
 		this.arguments = arguments;
+		this.argumentMatcher = CommandArgumentMatcher.compile(pattern, arguments);
 
 		HintManager hintManager = ParserInstance.get().getHintManager();
 		try {
@@ -276,21 +279,26 @@ public class ScriptCommand implements TabExecutor {
 		if (!checkPermissions(sender, event))
 			return false;
 
+		// the last usage after the cooldown check, to check whether the execution has set the last usage
+		long checkedLastUsage = CooldownStore.NONE;
 		cooldownCheck : {
-			if (sender instanceof Player && cooldown != null) {
-				Player player = ((Player) sender);
+			if (sender instanceof Player player && cooldowns != null) {
 				UUID uuid = player.getUniqueId();
 
 				// Cooldown bypass
 				if (!cooldownBypass.isEmpty() && player.hasPermission(cooldownBypass)) {
-					setLastUsage(uuid, event, null);
+					setLastUsage(uuid, event, CooldownStore.NONE);
 					break cooldownCheck;
 				}
 
-				if (getLastUsage(uuid, event) != null) {
-					if (getRemainingMilliseconds(uuid, event) <= 0) {
-						if (!SkriptConfig.keepLastUsageDates.value())
-							setLastUsage(uuid, event, null);
+				long lastUsage = getLastUsage(uuid, event, cooldowns);
+				if (lastUsage != CooldownStore.NONE) {
+					if (getRemainingMilliseconds(lastUsage) <= 0) {
+						if (!SkriptConfig.keepLastUsageDates.value()) {
+							setLastUsage(uuid, event, CooldownStore.NONE);
+						} else {
+							checkedLastUsage = lastUsage;
+						}
 					} else {
 						String msg = cooldownMessage.getSingle(event);
 						if (msg != null)
@@ -301,37 +309,43 @@ public class ScriptCommand implements TabExecutor {
 			}
 		}
 
-		Runnable runnable = () -> {
-			// save previous last usage date to check if the execution has set the last usage date
-			Date previousLastUsage = null;
-			if (sender instanceof Player)
-				previousLastUsage = getLastUsage(((Player) sender).getUniqueId(), event);
-
-			// execute the command - may modify the last usage date
-			execute2(event, sender, commandLabel, rest);
-
-			if (sender instanceof Player && !event.isCooldownCancelled()) {
-				Date lastUsage = getLastUsage(((Player) sender).getUniqueId(), event);
-				// check if the execution has set the last usage date
-				// if not, set it to the current date. if it has, we leave it alone so as not to affect the remaining/elapsed time (#5862)
-				if (Objects.equals(lastUsage, previousLastUsage))
-					setLastUsage(((Player) sender).getUniqueId(), event, new Date());
-			}
-		};
 		if (Bukkit.isPrimaryThread()) {
-			runnable.run();
+			run(event, sender, commandLabel, rest, checkedLastUsage);
 		} else {
 			// must not wait for the command to complete as some plugins call commands in such a way that the server will deadlock
-			Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), runnable);
+			// the last usage may change until then, so it has to be looked up again
+			Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), () -> {
+				long lastUsage = CooldownStore.NONE;
+				if (sender instanceof Player player && cooldowns != null)
+					lastUsage = getLastUsage(player.getUniqueId(), event, cooldowns);
+				run(event, sender, commandLabel, rest, lastUsage);
+			});
 		}
 
 		return true; // Skript prints its own error message anyway
 	}
 
+	private void run(ScriptCommandEvent event, CommandSender sender, String commandLabel, String rest, long previousLastUsage) {
+		// execute the command - may modify the last usage date
+		execute2(event, sender, commandLabel, rest);
+
+		if (sender instanceof Player player && cooldowns != null && !event.isCooldownCancelled()) {
+			UUID uuid = player.getUniqueId();
+			// check if the execution has set the last usage date
+			// if not, set it to the current date. if it has, we leave it alone so as not to affect the remaining/elapsed time (#5862)
+			if (getLastUsage(uuid, event, cooldowns) == previousLastUsage)
+				setLastUsage(uuid, event, System.currentTimeMillis());
+		}
+	}
+
 	boolean execute2(final ScriptCommandEvent event, final CommandSender sender, final String commandLabel, final String rest) {
 		final ParseLogHandler log = SkriptLogger.startParseLogHandler();
 		try {
-			final boolean ok = SkriptParser.parseArguments(rest, ScriptCommand.this, event);
+			boolean ok = argumentMatcher != null && argumentMatcher.match(rest, event);
+			if (!ok) {
+				log.clear();
+				ok = SkriptParser.parseArguments(rest, ScriptCommand.this, event);
+			}
 			if (!ok) {
 				final LogEntry e = log.getError();
 				if (e != null)
@@ -527,43 +541,50 @@ public class ScriptCommand implements TabExecutor {
 
 	@Nullable
 	public Date getLastUsage(UUID uuid, Event event) {
-		if (cooldownStorage == null) {
-			return lastUsageMap.get(uuid);
-		} else {
-			String name = getStorageVariableName(event);
-			assert name != null;
-			Object variable = Variables.getVariable(name, null, false);
-			if (variable != null && !(variable instanceof Date)) {
-				Skript.warning("Variable {" + name + "} was not a date! You may be using this variable elsewhere. " +
-						"This warning is letting you know that this variable is now overridden for the command storage.");
-				return null;
-			}
-			return (Date) variable;
-		}
+		if (cooldowns == null)
+			return null;
+		long lastUsage = getLastUsage(uuid, event, cooldowns);
+		return lastUsage == CooldownStore.NONE ? null : new Date(lastUsage);
+	}
+
+	private long getLastUsage(UUID uuid, Event event, CooldownStore cooldowns) {
+		if (cooldownStorage == null)
+			return cooldowns.get(uuid);
+		String name = getStorageVariableName(event);
+		assert name != null;
+		return cooldowns.getStored(name);
 	}
 
 	public void setLastUsage(UUID uuid, Event event, @Nullable Date date) {
+		setLastUsage(uuid, event, date == null ? CooldownStore.NONE : date.getTime());
+	}
+
+	private void setLastUsage(UUID uuid, Event event, long lastUsage) {
+		if (cooldowns == null)
+			return;
 		if (cooldownStorage != null) {
 			// Using a variable
 			String name = getStorageVariableName(event);
 			assert name != null;
-			Variables.setVariable(name, date, null, false);
+			cooldowns.setStored(name, lastUsage);
 		} else {
-			// Use the map
-			if (date == null)
-				lastUsageMap.remove(uuid);
-			else
-				lastUsageMap.put(uuid, date);
+			cooldowns.set(uuid, lastUsage);
 		}
 	}
 
 	public long getRemainingMilliseconds(UUID uuid, Event event) {
-		Date lastUsage = getLastUsage(uuid, event);
-		if (lastUsage == null)
+		if (cooldowns == null)
+			return 0;
+		long lastUsage = getLastUsage(uuid, event, cooldowns);
+		if (lastUsage == CooldownStore.NONE)
 			return 0;
+		return getRemainingMilliseconds(lastUsage);
+	}
+
+	private long getRemainingMilliseconds(long lastUsage) {
 		Timespan cooldown = this.cooldown;
 		assert cooldown != null;
-		long remaining = cooldown.getAs(Timespan.TimePeriod.MILLISECOND) - getElapsedMilliseconds(uuid, event);
+		long remaining = cooldown.getAs(Timespan.TimePeriod.MILLISECOND) - (System.currentTimeMillis() - lastUsage);
 		if (remaining < 0)
 			remaining = 0;
 		return remaining;
@@ -579,14 +600,14 @@ public class ScriptCommand implements TabExecutor {
 	}
 
 	public long getElapsedMilliseconds(UUID uuid, Event event) {
-		Date lastUsage = getLastUsage(uuid, event);
-		return lastUsage == null ? 0 : Date.now().getTime() - lastUsage.getTime();
+		if (cooldowns == null)
+			return 0;
+		long lastUsage = getLastUsage(uuid, event, cooldowns);
+		return lastUsage == CooldownStore.NONE ? 0 : System.currentTimeMillis() - lastUsage;
 	}
 
 	public void setElapsedMilliSeconds(UUID uuid, Event event, long milliseconds) {
-		Date date = Date.now();
-		date.subtract(new Timespan(milliseconds));
-		setLastUsage(uuid, event, date);
+		setLastUsage(uuid, event, System.currentTimeMillis() - milliseconds);
 	}
 
 	public String getCooldownBypass() {
@@ -614,6 +635,8 @@ public class ScriptCommand implements TabExecutor {
 	@Override
 	public List<String> onTabComplete(@Nullable CommandSender sender, @Nullable Command command, @Nullable String alias, @Nullable String[] args) {
 		assert args != null;
+		if (argumentMatcher != null)
+			return argumentMatcher.complete(args);
 		int argIndex = args.length - 1;
 		if (argIndex >= arguments.size())
 			return Collections.emptyList(); // Too many arguments, nothing to complete
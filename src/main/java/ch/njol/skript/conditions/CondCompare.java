@@ -1,6 +1,7 @@
 package ch.njol.skript.conditions;
 
 import ch.njol.skript.Skript;
+import ch.njol.skript.aliases.ItemType;
 import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Example;
@@ -12,8 +13,10 @@ import ch.njol.skript.lang.ExpressionList;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SimplifiedCondition;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.UnparsedLiteral;
 import ch.njol.skript.lang.VerboseAssert;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
 import ch.njol.skript.lang.util.SimpleLiteral;
 import ch.njol.skript.log.ErrorQuality;
 import ch.njol.skript.log.ParseLogHandler;
@@ -22,6 +25,7 @@ import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.Patterns;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.Kleenean;
+import org.bukkit.Material;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.comparator.Comparator;
@@ -30,6 +34,8 @@ import org.skriptlang.skript.lang.comparator.Comparators;
 import org.skriptlang.skript.lang.comparator.Relation;
 import org.skriptlang.skript.lang.util.Cyclical;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 @Name("Comparison")
@@ -42,7 +48,7 @@ import java.util.function.Predicate;
 @Example("time in the player's world is greater than 8:00")
 @Example("the creature is not an enderman or an ender dragon")
 @Since("1.0")
-public class CondCompare extends Condition implements VerboseAssert {
+public class CondCompare extends Condition implements VerboseAssert, ThreadSafeSyntax {
 
 	private final static Patterns<Relation> patterns = new Patterns<>(new Object[][]{
 			{"(1¦neither|) %objects% ((is|are)(|2¦(n't| not|4¦ neither)) ((greater|more|higher|bigger|larger) than|above)|\\>) %objects%", Relation.GREATER},
@@ -362,6 +368,25 @@ public class CondCompare extends Condition implements VerboseAssert {
 		), isNegated());
 	}
 
+	/**
+	 * If this condition checks whether the given expression is of some item types, e.g. {@code block input is stone or dirt},
+	 * returns the materials the blocks or items of the expression must be of for this condition to pass.
+	 * @param subject The expression to get the materials for.
+	 * @return A set containing at least every material for which this condition may pass, or null if no such set is known.
+	 */
+	public @Nullable Set<Material> getPossibleMaterials(Expression<?> subject) {
+		if (first != subject || third != null || isNegated() || relation != Relation.EQUAL || first.getTime() != 0
+				|| !(second instanceof Literal<?> literal))
+			return null;
+		Set<Material> materials = EnumSet.noneOf(Material.class);
+		for (Object value : literal.getAll()) {
+			if (!(value instanceof ItemType itemType))
+				return null;
+			materials.addAll(itemType.getMaterials());
+		}
+		return materials;
+	}
+
 	public String getExpectedMessage(Event event) {
 		String message = "a value ";
 		if (third == null)
@@ -398,6 +423,15 @@ public class CondCompare extends Condition implements VerboseAssert {
 		return shouldMatch;
 	}
 
+	/**
+	 * Comparators may access the server for values that belong to it, such as blocks or entities.
+	 */
+	@Override
+	public boolean isThreadSafe() {
+		return ThreadSafetyData.hasThreadSafeValues(first) && ThreadSafetyData.hasThreadSafeValues(second)
+			&& (third == null || ThreadSafetyData.hasThreadSafeValues(third));
+	}
+
 	@Override
 	public Condition simplify() {
 		if (first instanceof Literal<?> && second instanceof Literal<?> && (third == null || third instanceof Literal<?>))
@@ -11,17 +11,22 @@ import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.timings.RuntimeMetrics;
 import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.util.ScriptAccounting;
+import ch.njol.skript.util.TimerWheel;
 import ch.njol.skript.util.Timespan;
 import ch.njol.skript.variables.Variables;
 import ch.njol.util.Kleenean;
-import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.script.Script;
 
-import java.util.Collections;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Name("Delay")
 @Description("Delays the script's execution by a given timespan. Please note that delays are not persistent, e.g. trying to create a tempban script with <code>ban player → wait 7 days → unban player</code> will not work if you restart your server anytime within these 7 days. You also have to be careful even when using small delays!")
@@ -38,10 +43,13 @@ public class Delay extends Effect {
 	@SuppressWarnings("NotNullFieldNotInitialized")
 	protected Expression<Timespan> duration;
 
+	private @Nullable Script script;
+
 	@SuppressWarnings({"unchecked", "null"})
 	@Override
 	public boolean init(Expression<?>[] exprs, int matchedPattern, Kleenean isDelayed, ParseResult parseResult) {
 		getParser().setHasDelayBefore(Kleenean.TRUE);
+		script = getParser().isActive() ? getParser().getCurrentScript() : null;
 
 		duration = (Expression<Timespan>) exprs[0];
 		if (duration instanceof Literal) { // If we can, do sanity check for delays
@@ -74,7 +82,11 @@ public class Delay extends Effect {
 			// Back up local variables
 			Object localVars = Variables.removeLocals(event);
 			
-			Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), () -> {
+			RuntimeMetrics.delayScheduled();
+			if (script != null)
+				script.getUsage().recordDelay();
+			TimerWheel.schedule(() -> {
+				RuntimeMetrics.delayResumed();
 				addDelayedEvent(event);
 				Skript.debug(getIndentation() + "... continuing after " + (System.nanoTime() - start) / 1_000_000_000. + "s");
 
@@ -89,7 +101,13 @@ public class Delay extends Effect {
 						timing = SkriptTimings.start(trigger.getDebugLabel());
 				}
 
-				TriggerItem.walk(next, event);
+				boolean accounted = ScriptAccounting.enter(script);
+				try {
+					TriggerItem.walk(next, event);
+				} finally {
+					if (accounted)
+						ScriptAccounting.exit();
+				}
 				Variables.removeLocals(event); // Clean up local vars, we may be exiting now
 
 				SkriptTimings.stop(timing); // Stop timing if it was even started
@@ -108,8 +126,12 @@ public class Delay extends Effect {
 		return "wait for " + duration.toString(event, debug) + (event == null ? "" : "...");
 	}
 
-	private static final Set<Event> DELAYED =
-		Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+	/*
+	 * Delayed events are tracked through weak references, so that marking an event as delayed does not keep it alive.
+	 * A concurrent set is used as these methods may be called from async events and effects.
+	 */
+	private static final Set<EventReference> DELAYED = ConcurrentHashMap.newKeySet();
+	private static final ReferenceQueue<Event> COLLECTED_EVENTS = new ReferenceQueue<>();
 
 	/**
 	 * The main method for checking if the execution of {@link TriggerItem}s has been delayed.
@@ -117,7 +139,9 @@ public class Delay extends Effect {
 	 * @return Whether {@link TriggerItem} execution has been delayed.
 	 */
 	public static boolean isDelayed(Event event) {
-		return DELAYED.contains(event);
+		if (DELAYED.isEmpty())
+			return false;
+		return DELAYED.contains(new EventReference(event, null));
 	}
 
 	/**
@@ -125,7 +149,40 @@ public class Delay extends Effect {
 	 * @param event The event to mark as delayed.
 	 */
 	public static void addDelayedEvent(Event event) {
-		DELAYED.add(event);
+		Reference<? extends Event> collected;
+		while ((collected = COLLECTED_EVENTS.poll()) != null)
+			DELAYED.remove(collected);
+		DELAYED.add(new EventReference(event, COLLECTED_EVENTS));
+	}
+
+	/**
+	 * A weak reference to an event that is compared by the identity of its referent.
+	 * Once the referent has been collected, a reference is only equal to itself.
+	 */
+	private static final class EventReference extends WeakReference<Event> {
+
+		private final int hash;
+
+		EventReference(Event event, @Nullable ReferenceQueue<Event> queue) {
+			super(event, queue);
+			this.hash = System.identityHashCode(event);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this)
+				return true;
+			if (!(object instanceof EventReference other))
+				return false;
+			Event event = get();
+			return event != null && event == other.get();
+		}
+
 	}
 
 }
@@ -12,6 +12,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.ExprParse;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
 import ch.njol.skript.log.CountingLogHandler;
 import ch.njol.skript.log.ErrorQuality;
 import ch.njol.skript.log.ParseLogHandler;
@@ -62,7 +63,7 @@ import java.util.logging.Level;
 	reset chunk at the targeted block
 	""")
 @Since("1.0 (set, add, remove, delete), 2.0 (remove all)")
-public class EffChange extends Effect {
+public class EffChange extends Effect implements ThreadSafeSyntax {
 
 	private static final Patterns<ChangeMode> PATTERNS = new Patterns<>(new Object[][] {
 			{"(add|give) %objects% to %~objects%", ChangeMode.ADD},
@@ -327,6 +328,21 @@ public class EffChange extends Effect {
 		changed.change(event, delta, mode);
 	}
 
+	/**
+	 * Only changes to variables are thread-safe, as other expressions change the server.
+	 * Setting or deleting a variable only stores the values,
+	 * while other changes may compare or combine them with the values of the variable.
+	 */
+	@Override
+	public boolean isThreadSafe() {
+		if (!(changed instanceof Variable<?>))
+			return false;
+		return switch (mode) {
+			case SET, DELETE, RESET -> true;
+			default -> changer == null || ThreadSafetyData.hasThreadSafeValues(changer);
+		};
+	}
+
 	@Override
 	public String toString(@Nullable Event event, boolean debug) {
 		SyntaxStringBuilder builder = new SyntaxStringBuilder(event, debug);
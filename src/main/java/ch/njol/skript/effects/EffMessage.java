@@ -12,7 +12,6 @@ import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.LiteralUtils;
 import ch.njol.skript.util.chat.BungeeConverter;
 import ch.njol.skript.util.chat.ChatMessages;
-import ch.njol.skript.util.chat.MessageComponent;
 import ch.njol.util.Kleenean;
 import ch.njol.util.coll.CollectionUtils;
 import net.md_5.bungee.api.chat.BaseComponent;
@@ -21,7 +20,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.UUID;
 
 @Name("Message")
@@ -86,33 +84,25 @@ public class EffMessage extends Effect {
 		for (Expression<?> message : getMessages()) {
 
 			Object[] messageArray = null;
-			List<MessageComponent> messageComponents = null;
+			// Converted once and shared by all receiving players
+			BaseComponent[][] playerMessages = null;
 
 			for (CommandSender receiver : commandSenders) {
-				if (receiver instanceof Player && message instanceof VariableString) {
-					if (messageComponents == null)
-						messageComponents = ((VariableString) message).getMessageComponents(e);
-				} else {
-					if (messageArray == null)
-						messageArray = message.getArray(e);
-				}
-
-				if (receiver instanceof Player) { // Can use JSON formatting
-					if (message instanceof VariableString) { // Process formatting that is safe
-						sendMessage((Player) receiver, sender,
-							BungeeConverter.convert(messageComponents)
-						);
-					} else if (message instanceof ExprColoured && ((ExprColoured) message).isUnsafeFormat()) { // Manually marked as trusted
-						for (Object object : messageArray) {
-							sendMessage((Player) receiver, sender, BungeeConverter.convert(ChatMessages.parse((String) object)));
-						}
-					} else { // It is just a string, no idea if it comes from a trusted source -> don't parse anything
-						for (Object object : messageArray) {
-							List<MessageComponent> components = ChatMessages.fromParsedString(toString(object));
-							sendMessage((Player) receiver, sender, BungeeConverter.convert(components));
+				if (receiver instanceof Player player) { // Can use JSON formatting
+					if (playerMessages == null) {
+						if (message instanceof VariableString variableString) { // Process formatting that is safe
+							playerMessages = new BaseComponent[][] {BungeeConverter.convert(variableString.getMessageComponents(e))};
+						} else {
+							if (messageArray == null)
+								messageArray = message.getArray(e);
+							playerMessages = convert(message, messageArray);
 						}
 					}
+					for (BaseComponent[] components : playerMessages)
+						sendMessage(player, sender, components);
 				} else { // Not a player, send plain text with legacy formatting
+					if (messageArray == null)
+						messageArray = message.getArray(e);
 					for (Object object : messageArray) {
 						receiver.sendMessage(toString(object));
 					}
@@ -120,6 +110,18 @@ public class EffMessage extends Effect {
 			}
 		}
 	}
+
+	private BaseComponent[][] convert(Expression<?> message, Object[] messageArray) {
+		BaseComponent[][] converted = new BaseComponent[messageArray.length][];
+		for (int i = 0; i < messageArray.length; i++) {
+			if (message instanceof ExprColoured && ((ExprColoured) message).isUnsafeFormat()) { // Manually marked as trusted
+				converted[i] = BungeeConverter.convert(ChatMessages.parse((String) messageArray[i]));
+			} else { // It is just a string, no idea if it comes from a trusted source -> don't parse anything
+				converted[i] = BungeeConverter.convert(ChatMessages.fromParsedString(toString(messageArray[i])));
+			}
+		}
+		return converted;
+	}
 	
 	private void sendMessage(Player receiver, @Nullable Player sender, BaseComponent... components) {
 		if (sender != null)
@@ -93,6 +93,16 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	// must be here to be initialised before 'new SimpleLiteral' is called in the register block below
 	private static final List<EntityDataInfo<EntityData<?>>> infos = new ArrayList<>();
 
+	/**
+	 * Caches the info of each registered entity data class.
+	 */
+	private static volatile ClassValue<EntityDataInfo<?>> dataInfos = newDataInfos();
+
+	/**
+	 * Caches how {@link #getData(Class, Entity)} resolves the entity datas of an entity class.
+	 */
+	private static volatile ClassValue<Resolution> resolutions = newResolutions();
+
 	private static final List<EntityData> ALL_ENTITY_DATAS = new ArrayList<>();
 
 	public static Serializer<EntityData> serializer = new Serializer<EntityData>() {
@@ -344,6 +354,7 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	) throws IllegalArgumentException {
 		EntityType entityType = EntityUtils.toBukkitEntityType(entityClass);
 		EntityDataInfo<T> entityDataInfo = new EntityDataInfo<>(dataClass, name, codeNames, defaultName, entityType, entityClass);
+		invalidateResolutions();
 		for (int i = 0; i < infos.size(); i++) {
 			if (infos.get(i).entityClass.isAssignableFrom(entityClass)) {
 				//noinspection unchecked
@@ -355,6 +366,52 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 		infos.add((EntityDataInfo<EntityData<?>>) entityDataInfo);
 	}
 
+	/**
+	 * The entity datas that may represent entities of a certain class.
+	 * @param candidates The infos whose entity class is a supertype of the entity class, in registration order.
+	 * @param shared If there are no candidates, the data every entity of the class is represented by.
+	 *  As it is not specific to any entity, it is shared between all of them.
+	 */
+	private record Resolution(List<EntityDataInfo<?>> candidates, @Nullable EntityData<?> shared) { }
+
+	private static ClassValue<EntityDataInfo<?>> newDataInfos() {
+		return new ClassValue<>() {
+			@Override
+			protected @Nullable EntityDataInfo<?> computeValue(Class<?> dataClass) {
+				for (EntityDataInfo<?> info : infos) {
+					if (dataClass == info.getElementClass())
+						return info;
+				}
+				return null;
+			}
+		};
+	}
+
+	private static ClassValue<Resolution> newResolutions() {
+		return new ClassValue<>() {
+			@Override
+			protected Resolution computeValue(Class<?> entityClass) {
+				List<EntityDataInfo<?>> candidates = new ArrayList<>();
+				for (EntityDataInfo<?> info : infos) {
+					if (info.entityClass != Entity.class && info.entityClass.isAssignableFrom(entityClass))
+						candidates.add(info);
+				}
+				if (!candidates.isEmpty())
+					return new Resolution(List.copyOf(candidates), null);
+				int closestType = SimpleEntityData.getClosestType(entityClass);
+				return new Resolution(List.of(), closestType == -1 ? null : new SimpleEntityData(closestType));
+			}
+		};
+	}
+
+	/**
+	 * Discards all cached resolutions, as the registered entity datas have changed.
+	 */
+	static void invalidateResolutions() {
+		dataInfos = newDataInfos();
+		resolutions = newResolutions();
+	}
+
 	transient EntityDataInfo<?> info;
 
 	/**
@@ -365,14 +422,11 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	private Kleenean baby = Kleenean.UNKNOWN;
 
 	public EntityData() {
-		for (EntityDataInfo<?> info : infos) {
-			if (getClass() == info.getElementClass()) {
-				this.info = info;
-				codeNameIndex = info.defaultName;
-				return;
-			}
-		}
-		throw new IllegalStateException();
+		EntityDataInfo<?> info = dataInfos.get(getClass());
+		if (info == null)
+			throw new IllegalStateException();
+		this.info = info;
+		codeNameIndex = info.defaultName;
 	}
 
 	/**
@@ -737,7 +791,12 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 		List<E> list = new ArrayList<>();
 		if (worlds == null)
 			worlds = Bukkit.getWorlds().toArray(new World[0]);
+		boolean useIndex = EntityIndex.isUsable();
 		for (World world : worlds) {
+			if (useIndex) {
+				EntityIndex.getAll(world, types, type, list);
+				continue;
+			}
 			for (E entity : world.getEntitiesByClass(type)) {
 				for (EntityData<?> entityData : types) {
 					if (entityData.isInstance(entity)) {
@@ -774,6 +833,7 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	 *     Only one of {@code entityClass} or {@code entity} must be non-null.
 	 *     This method looks through all registered {@link EntityDataInfo}s and selects the closest matching one
 	 *     that successfully initializes from the provided input.
+	 *     The infos matching a class are cached, and classes without any matching info share a single data.
 	 * </p>
 	 *
 	 * @param entityClass The class of the entity to represent, or {@code null} if using an instance.
@@ -784,22 +844,22 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	private static <E extends Entity> EntityData<? super E> getData(@Nullable Class<E> entityClass, @Nullable E entity) {
 		assert entityClass == null ^ entity == null;
 		assert entityClass == null || entityClass.isInterface();
+		Resolution resolution = resolutions.get(entity == null ? entityClass : entity.getClass());
+		if (resolution.shared != null)
+			//noinspection unchecked
+			return (EntityData<? super E>) resolution.shared;
 		EntityDataInfo<?> closestInfo = null;
 		EntityData<E> closestData = null;
-		for (EntityDataInfo<?> info : infos) {
-			if (info.entityClass == Entity.class)
-				continue;
-			if (entity == null ? info.entityClass.isAssignableFrom(entityClass) : info.entityClass.isInstance(entity)) {
-				EntityData<E> entityData = null;
-				try {
-					//noinspection unchecked
-					entityData = (EntityData<E>) info.getElementClass().newInstance();
-				} catch (Exception ignored) {}
-				if (entityData != null && entityData.init(entityClass, entity)) {
-					if (closestInfo == null || closestInfo.entityClass.isAssignableFrom(info.entityClass)) {
-						closestInfo = info;
-						closestData = entityData;
-					}
+		for (EntityDataInfo<?> info : resolution.candidates) {
+			EntityData<E> entityData = null;
+			try {
+				//noinspection unchecked
+				entityData = (EntityData<E>) info.getElementClass().newInstance();
+			} catch (Exception ignored) {}
+			if (entityData != null && entityData.init(entityClass, entity)) {
+				if (closestInfo == null || closestInfo.entityClass.isAssignableFrom(info.entityClass)) {
+					closestInfo = info;
+					closestData = entityData;
 				}
 			}
 		}
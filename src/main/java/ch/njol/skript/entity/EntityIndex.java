@@ -0,0 +1,156 @@
+package ch.njol.skript.entity;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * An optional index of the entities of each world by their class, used to answer entity queries
+ * such as {@code all zombies}.
+ * <p>
+ * The index of a world is built when the world is first queried, and kept up to date from then on
+ * as entities are added to or removed from the world, which includes entities loaded and unloaded with their chunk.
+ * Queries only visit the entities of the classes that may match the requested entity types.
+ * <p>
+ * Radius queries such as {@code all entities in radius 10 of player} are not answered by the index,
+ * as most entities don't call any events when they move. The server's own spatial lookup is used for them instead.
+ * The index is only used on the main server thread and disabled by default.
+ */
+public final class EntityIndex {
+
+	private static volatile boolean enabled = false;
+
+	// Only accessed on the main server thread
+	private static final Map<World, WorldIndex> INDEXES = new WeakHashMap<>();
+
+	private static boolean listening = false;
+
+	private EntityIndex() {}
+
+	/**
+	 * @param enabled Whether entity queries should use the index. Must be called on the main server thread.
+	 */
+	public static void setEnabled(boolean enabled) {
+		EntityIndex.enabled = enabled;
+		if (!enabled)
+			INDEXES.clear();
+	}
+
+	/**
+	 * @return Whether entity queries can use the index, which requires it to be enabled and to be on the main server thread.
+	 */
+	public static boolean isUsable() {
+		return enabled && Bukkit.isPrimaryThread();
+	}
+
+	/**
+	 * Registers the listeners keeping the index up to date.
+	 * @param plugin The plugin to register the listeners for.
+	 */
+	public static void start(Plugin plugin) {
+		if (listening)
+			return;
+		listening = true;
+		Bukkit.getPluginManager().registerEvents(new Listener() {
+			@EventHandler(priority = EventPriority.MONITOR)
+			public void onEntityAdd(EntityAddToWorldEvent event) {
+				WorldIndex index = INDEXES.get(event.getWorld());
+				if (index != null)
+					index.add(event.getEntity());
+			}
+
+			@EventHandler(priority = EventPriority.MONITOR)
+			public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+				WorldIndex index = INDEXES.get(event.getWorld());
+				if (index != null)
+					index.remove(event.getEntity());
+			}
+
+			@EventHandler(priority = EventPriority.MONITOR)
+			public void onWorldUnload(WorldUnloadEvent event) {
+				INDEXES.remove(event.getWorld());
+			}
+		}, plugin);
+	}
+
+	/**
+	 * Finds all entities of a world matching any of the given entity types.
+	 * Must only be used if {@link #isUsable()}.
+	 * @param world The world to search.
+	 * @param types The entity types to match.
+	 * @param type The class the entities must be instances of.
+	 * @param results The list to add the matching entities to.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Entity> void getAll(World world, EntityData<?>[] types, Class<E> type, List<E> results) {
+		WorldIndex index = INDEXES.computeIfAbsent(world, WorldIndex::new);
+		for (Map.Entry<Class<?>, Set<Entity>> entry : index.byClass.entrySet()) {
+			if (!mayMatch(entry.getKey(), types, type))
+				continue;
+			for (Entity entity : entry.getValue()) {
+				if (entity.isValid() && matches(entity, types))
+					results.add((E) entity);
+			}
+		}
+	}
+
+	/**
+	 * @return Whether entities of the given class may be instances of the given type and of one of the given entity types.
+	 */
+	private static boolean mayMatch(Class<?> entityClass, EntityData<?>[] types, Class<?> type) {
+		if (!type.isAssignableFrom(entityClass))
+			return false;
+		for (EntityData<?> entityData : types) {
+			if (entityData.getType().isAssignableFrom(entityClass))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean matches(Entity entity, EntityData<?>[] types) {
+		for (EntityData<?> entityData : types) {
+			if (entityData.isInstance(entity))
+				return true;
+		}
+		return false;
+	}
+
+	private static final class WorldIndex {
+
+		private final Map<Class<?>, Set<Entity>> byClass = new HashMap<>();
+
+		WorldIndex(World world) {
+			for (Entity entity : world.getEntities())
+				add(entity);
+		}
+
+		void add(Entity entity) {
+			// Bukkit keeps a single instance per entity, so entities can be compared by identity
+			byClass.computeIfAbsent(entity.getClass(), entityClass -> Collections.newSetFromMap(new IdentityHashMap<>()))
+				.add(entity);
+		}
+
+		void remove(Entity entity) {
+			Set<Entity> entities = byClass.get(entity.getClass());
+			if (entities != null)
+				entities.remove(entity);
+		}
+
+	}
+
+}
@@ -55,6 +55,41 @@ public class SimpleEntityData extends EntityData<Entity> {
 	
 	private final static List<SimpleEntityDataInfo> types = new ArrayList<>();
 
+	/**
+	 * Caches the index of the closest type of an entity class, or -1 if there is none.
+	 * Replaced whenever a type is added.
+	 */
+	private static volatile ClassValue<Integer> closestTypes = newClosestTypes();
+
+	private static ClassValue<Integer> newClosestTypes() {
+		return new ClassValue<>() {
+			@Override
+			protected Integer computeValue(Class<?> entityClass) {
+				int closest = -1;
+				for (int i = 0; i < types.size(); i++) {
+					SimpleEntityDataInfo info = types.get(i);
+					if (info.c.isAssignableFrom(entityClass) && (closest == -1 || types.get(closest).c.isAssignableFrom(info.c)))
+						closest = i;
+				}
+				return closest;
+			}
+		};
+	}
+
+	/**
+	 * @param entityClass The class of an entity.
+	 * @return The index of the closest type the entity class is assignable to, or -1 if there is none.
+	 */
+	static int getClosestType(Class<?> entityClass) {
+		return closestTypes.get(entityClass);
+	}
+
+	private static void addType(SimpleEntityDataInfo info) {
+		types.add(info);
+		closestTypes = newClosestTypes();
+		EntityData.invalidateResolutions();
+	}
+
 	@ApiStatus.Internal
 	public static void addSimpleEntity(String codeName, Class<? extends Entity> entityClass) {
 		addSimpleEntity(codeName, entityClass, Kleenean.UNKNOWN);
@@ -65,7 +100,7 @@ public class SimpleEntityData extends EntityData<Entity> {
 	 */
 	@ApiStatus.Internal
 	public static void addSimpleEntity(String codeName, Class<? extends Entity> entityClass, Kleenean allowSpawning) {
-		types.add(new SimpleEntityDataInfo(codeName, entityClass, false, allowSpawning));
+		addType(new SimpleEntityDataInfo(codeName, entityClass, false, allowSpawning));
 	}
 
 	@ApiStatus.Internal
@@ -75,7 +110,7 @@ public class SimpleEntityData extends EntityData<Entity> {
 
 	@ApiStatus.Internal
 	public static void addSuperEntity(String codeName, Class<? extends Entity> entityClass, Kleenean allowSpawning) {
-		types.add(new SimpleEntityDataInfo(codeName, entityClass, true, allowSpawning));
+		addType(new SimpleEntityDataInfo(codeName, entityClass, true, allowSpawning));
 	}
 
 	static {
@@ -304,45 +339,27 @@ public class SimpleEntityData extends EntityData<Entity> {
 	
 	public SimpleEntityData(Class<? extends Entity> entityClass) {
 		assert entityClass != null && entityClass.isInterface() : entityClass;
-		int i = 0;
-		SimpleEntityDataInfo closestInfo = null;
-		int closestPattern = 0;
-		for (SimpleEntityDataInfo info : types) {
-			if (info.c.isAssignableFrom(entityClass)) {
-				if (closestInfo == null || closestInfo.c.isAssignableFrom(info.c)) {
-					closestInfo = info;
-					closestPattern = i;
-				}
-			}
-			i++;
-		}
-		if (closestInfo != null) {
-			this.simpleInfo = closestInfo;
-			this.codeNameIndex = closestPattern;
-			return;
-		}
-		throw new IllegalStateException();
+		int closest = getClosestType(entityClass);
+		if (closest == -1)
+			throw new IllegalStateException();
+		this.simpleInfo = types.get(closest);
+		this.codeNameIndex = closest;
 	}
 	
 	public SimpleEntityData(Entity entity) {
-		int i = 0;
-		SimpleEntityDataInfo closestInfo = null;
-		int closestPattern = 0;
-		for (SimpleEntityDataInfo info : types) {
-			if (info.c.isInstance(entity)) {
-				if (closestInfo == null || closestInfo.c.isAssignableFrom(info.c)) {
-					closestInfo = info;
-					closestPattern = i;
-				}
-			}
-			i++;
-		}
-		if (closestInfo != null) {
-			this.simpleInfo = closestInfo;
-			this.codeNameIndex = closestPattern;
-			return;
-		}
-		throw new IllegalStateException();
+		int closest = getClosestType(entity.getClass());
+		if (closest == -1)
+			throw new IllegalStateException();
+		this.simpleInfo = types.get(closest);
+		this.codeNameIndex = closest;
+	}
+
+	/**
+	 * @param closestType The index of the closest type, as returned by {@link #getClosestType(Class)}.
+	 */
+	SimpleEntityData(int closestType) {
+		this.simpleInfo = types.get(closestType);
+		this.codeNameIndex = closestType;
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionList;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.lang.util.common.AnyAmount;
 import ch.njol.skript.util.LiteralUtils;
@@ -30,7 +31,7 @@ import org.skriptlang.skript.common.properties.expressions.PropExprAmount;
 @Example("message \"There are %number of all players% players online!\"")
 @Since("1.0")
 @Deprecated(since="2.13", forRemoval = true)
-public class ExprAmount extends SimpleExpression<Number> {
+public class ExprAmount extends SimpleExpression<Number> implements ThreadSafeSyntax {
 
 	static {
 		if (!SkriptConfig.useTypeProperties.value())
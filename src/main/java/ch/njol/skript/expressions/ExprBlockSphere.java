@@ -16,8 +16,9 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.util.BlockShapeExpression;
 import ch.njol.skript.lang.util.SimpleExpression;
-import ch.njol.skript.util.BlockSphereIterator;
+import ch.njol.skript.util.BlockCursor;
 import ch.njol.util.Kleenean;
 import ch.njol.util.coll.iterator.EmptyIterator;
 import ch.njol.util.coll.iterator.IteratorIterable;
@@ -32,7 +33,7 @@ import ch.njol.util.coll.iterator.IteratorIterable;
 		set loop-block to air
 	""")
 @Since("1.0")
-public class ExprBlockSphere extends SimpleExpression<Block> {
+public class ExprBlockSphere extends SimpleExpression<Block> implements BlockShapeExpression {
 	static {
 		Skript.registerExpression(ExprBlockSphere.class, Block.class, ExpressionType.COMBINED,
 				"[(all [[of] the]|the)] blocks in radius %number% [(of|around) %location%]",
@@ -54,11 +55,20 @@ public class ExprBlockSphere extends SimpleExpression<Block> {
 	
 	@Override
 	public Iterator<Block> iterator(final Event e) {
-		final Location l = center.getSingle(e);
-		final Number r = radius.getSingle(e);
-		if (l == null || r == null)
+		BlockCursor cursor = getCursor(e);
+		if (cursor == null)
 			return new EmptyIterator<>();
-		return new BlockSphereIterator(l, r.doubleValue());
+		return cursor.blocks(null);
+	}
+
+	@Override
+	@Nullable
+	public BlockCursor getCursor(Event event) {
+		Location center = this.center.getSingle(event);
+		Number radius = this.radius.getSingle(event);
+		if (center == null || center.getWorld() == null || radius == null)
+			return null;
+		return BlockCursor.sphere(center, radius.doubleValue());
 	}
 	
 	@Override
@@ -20,8 +20,9 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.util.BlockShapeExpression;
 import ch.njol.skript.lang.util.SimpleExpression;
-import ch.njol.skript.util.AABB;
+import ch.njol.skript.util.BlockCursor;
 import ch.njol.skript.util.BlockLineIterator;
 import ch.njol.skript.util.Direction;
 import ch.njol.util.Kleenean;
@@ -37,7 +38,7 @@ import ch.njol.util.coll.iterator.ArrayIterator;
 @Example("set all blocks within {loc1} and {loc2} to stone")
 @Example("set all blocks within chunk at player to air")
 @Since("1.0, 2.5.1 (within/cuboid/chunk)")
-public class ExprBlocks extends SimpleExpression<Block> {
+public class ExprBlocks extends SimpleExpression<Block> implements BlockShapeExpression {
 
 	private static final boolean SUPPORTS_WORLD_LOADED = Skript.methodExists(Location.class, "isWorldLoaded");
 
@@ -120,10 +121,9 @@ public class ExprBlocks extends SimpleExpression<Block> {
 	@Nullable
 	public Iterator<Block> iterator(Event event) {
 		try {
-			if (chunk != null) {
-				Chunk chunk = this.chunk.getSingle(event);
-				if (chunk != null)
-					return new AABB(chunk).iterator();
+			if (chunk != null || pattern == 4) {
+				BlockCursor cursor = getCursor(event);
+				return cursor == null ? null : cursor.blocks(null);
 			} else if (direction != null) {
 				if (!from.isSingle())
 					return new ArrayIterator<>(get(event));
@@ -161,8 +161,6 @@ public class ExprBlocks extends SimpleExpression<Block> {
 				Location loc2 = end.getSingle(event);
 				if (loc2 == null || loc2.getWorld() != loc.getWorld())
 					return null;
-				if (pattern == 4)
-					return new AABB(loc, loc2).iterator();
 				return new BlockLineIterator(loc.getBlock(), loc2.getBlock());
 			}
 		} catch (IllegalStateException e) {
@@ -173,6 +171,24 @@ public class ExprBlocks extends SimpleExpression<Block> {
 		return null;
 	}
 
+	@Override
+	@Nullable
+	public BlockCursor getCursor(Event event) {
+		if (chunk != null) {
+			Chunk chunk = this.chunk.getSingle(event);
+			return chunk == null ? null : BlockCursor.chunk(chunk);
+		} else if (pattern == 4) {
+			Location corner = (Location) from.getSingle(event);
+			assert end != null;
+			Location otherCorner = end.getSingle(event);
+			if (corner == null || otherCorner == null || corner.getWorld() == null || otherCorner.getWorld() != corner.getWorld())
+				return null;
+			return BlockCursor.cuboid(corner.getWorld(), corner.getBlockX(), corner.getBlockY(), corner.getBlockZ(),
+				otherCorner.getBlockX(), otherCorner.getBlockY(), otherCorner.getBlockZ());
+		}
+		return null;
+	}
+
 	@Override
 	public Class<? extends Block> getReturnType() {
 		return Block.class;
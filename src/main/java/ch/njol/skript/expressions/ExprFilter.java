@@ -2,6 +2,7 @@ package ch.njol.skript.expressions;
 
 import ch.njol.skript.Skript;
 import ch.njol.skript.classes.ClassInfo;
+import ch.njol.skript.conditions.CondCompare;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Example;
 import ch.njol.skript.doc.Name;
@@ -10,10 +11,13 @@ import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.KeyedValue.UnzippedKeyValues;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.lang.util.BlockShapeExpression;
 import ch.njol.skript.lang.util.SimpleExpression;
+import ch.njol.skript.util.BlockCursor;
 import ch.njol.skript.util.LiteralUtils;
 import ch.njol.util.Kleenean;
 import com.google.common.collect.Iterators;
+import org.bukkit.Material;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -50,6 +54,11 @@ public class ExprFilter extends SimpleExpression<Object> implements InputSource,
 	private @UnknownNullability String unparsedCondition;
 	private @UnknownNullability Expression<?> unfilteredObjects;
 	private final Set<ExprInput<?>> dependentInputs = new HashSet<>();
+	/**
+	 * The materials blocks must be of to pass the condition, if the unfiltered objects are the blocks of a shape.
+	 * Blocks of other materials are skipped without being created.
+	 */
+	private @Nullable Set<Material> possibleMaterials;
 
 	private @Nullable Object currentValue;
 	private @UnknownNullability String currentIndex;
@@ -66,6 +75,9 @@ public class ExprFilter extends SimpleExpression<Object> implements InputSource,
 		inputData.setSource(this);
 		filterCondition = Condition.parse(unparsedCondition, "Can't understand this condition: " + unparsedCondition);
 		inputData.setSource(originalSource);
+		if (unfilteredObjects instanceof BlockShapeExpression && filterCondition instanceof CondCompare compare
+				&& dependentInputs.size() == 1)
+			possibleMaterials = compare.getPossibleMaterials(dependentInputs.iterator().next());
 		return filterCondition != null;
 	}
 
@@ -77,7 +89,14 @@ public class ExprFilter extends SimpleExpression<Object> implements InputSource,
 		// clear current index just to be safe
 		currentIndex = null;
 
-		Iterator<?> unfilteredObjectIterator = unfilteredObjects.iterator(event);
+		Iterator<?> unfilteredObjectIterator = null;
+		if (possibleMaterials != null) {
+			BlockCursor cursor = ((BlockShapeExpression) unfilteredObjects).getCursor(event);
+			if (cursor != null)
+				unfilteredObjectIterator = cursor.blocks(possibleMaterials);
+		}
+		if (unfilteredObjectIterator == null)
+			unfilteredObjectIterator = unfilteredObjects.iterator(event);
 		if (unfilteredObjectIterator == null)
 			return Collections.emptyIterator();
 		return Iterators.filter(unfilteredObjectIterator, candidateObject -> {
@@ -7,6 +7,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.base.SimplePropertyExpression;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.Literal;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.simplification.SimplifiedLiteral;
 
 /**
@@ -16,7 +17,7 @@ import ch.njol.skript.lang.simplification.SimplifiedLiteral;
 @Description("The length of a text, in number of characters.")
 @Example("set {_l} to length of the string argument")
 @Since("2.1")
-public class ExprLength extends SimplePropertyExpression<String, Long> {
+public class ExprLength extends SimplePropertyExpression<String, Long> implements ThreadSafeSyntax {
 	static {
 		register(ExprLength.class, Long.class, "length", "strings");
 	}
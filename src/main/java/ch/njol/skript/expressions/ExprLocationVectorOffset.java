@@ -5,6 +5,7 @@ import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Example;
 import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
+import ch.njol.skript.expressions.arithmetic.VectorChain;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.simplification.SimplifiedLiteral;
@@ -40,6 +41,9 @@ public class ExprLocationVectorOffset extends SimpleExpression<Location> {
 
 	private boolean usingLocalAxes;
 
+	// the offset if it is a chain of vector arithmetic, which can be added without creating a vector
+	private @Nullable VectorChain offsetChain;
+
 	@Override
 	public boolean init(Expression<?>[] exprs, int matchedPattern, Kleenean isDelayed, ParseResult parseResult) {
 		// noinspection unchecked
@@ -58,6 +62,13 @@ public class ExprLocationVectorOffset extends SimpleExpression<Location> {
 
 		Location clone = location.clone();
 
+		if (offsetChain != null) {
+			double[] offset = offsetChain.evaluate(event);
+			if (offset != null)
+				clone.add(offset[0], offset[1], offset[2]);
+			return new Location[]{ clone };
+		}
+
 		for (Vector vector : vectors.getArray(event)) {
 			if (usingLocalAxes)
 				vector = getFacingRelativeOffset(clone, vector);
@@ -75,10 +86,13 @@ public class ExprLocationVectorOffset extends SimpleExpression<Location> {
 	public Class<? extends Location> getReturnType() {
 		return Location.class;
 	}
-  
+
+	@Override
 	public Expression<? extends Location> simplify() {
 		if (location instanceof Literal<Location> && vectors instanceof Literal<Vector>)
 			return SimplifiedLiteral.fromExpression(this);
+		if (!usingLocalAxes)
+			offsetChain = VectorChain.of(vectors);
 		return this;
 	}
 
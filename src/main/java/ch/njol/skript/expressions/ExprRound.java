@@ -11,6 +11,7 @@ import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.SyntaxStringBuilder;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.util.Patterns;
 import ch.njol.util.Kleenean;
 import ch.njol.util.Math2;
@@ -24,7 +25,7 @@ import ch.njol.skript.lang.simplification.SimplifiedLiteral;
 @Example("set line 1 of the block to \"%rounded (1.5 * player's level)%\"")
 @Example("add rounded down argument to the player's health")
 @Since("2.0")
-public class ExprRound extends PropertyExpression<Number, Long> {
+public class ExprRound extends PropertyExpression<Number, Long> implements ThreadSafeSyntax {
 
 	private enum RoundType {
 		FLOOR, ROUND, CEIL
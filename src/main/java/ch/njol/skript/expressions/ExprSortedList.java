@@ -7,6 +7,7 @@ import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
 import ch.njol.skript.lang.simplification.SimplifiedLiteral;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.util.LiteralUtils;
@@ -32,7 +33,7 @@ import java.util.Iterator;
 				send "%loop-counter%. %loop-index% with %loop-value% kills" to sender
 	""")
 @Since("2.2-dev19, 2.14 (retain indices when looping)")
-public class ExprSortedList extends SimpleExpression<Object> implements KeyedIterableExpression<Object> {
+public class ExprSortedList extends SimpleExpression<Object> implements KeyedIterableExpression<Object>, ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprSortedList.class, Object.class, ExpressionType.PROPERTY, "sorted %objects%");
@@ -150,6 +151,14 @@ public class ExprSortedList extends SimpleExpression<Object> implements KeyedIte
 		return list.isLoopOf(input);
 	}
 
+	/**
+	 * Comparators may access the server for values that belong to it, such as blocks or entities.
+	 */
+	@Override
+	public boolean isThreadSafe() {
+		return ThreadSafetyData.hasThreadSafeValues(list);
+	}
+
 	@Override
 	public Expression<?> simplify() {
 		if (list instanceof Literal<?>)
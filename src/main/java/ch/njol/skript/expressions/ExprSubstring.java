@@ -6,6 +6,7 @@ import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.lang.util.SimpleLiteral;
 import ch.njol.util.Kleenean;
@@ -28,7 +29,7 @@ import java.util.List;
 @Example("set {_characters::*} to characters at 1, 2 and 7 in player's display name")
 @Example("send the last character of all players' names")
 @Since("2.1, 2.5.2 (character at, multiple strings support)")
-public class ExprSubstring extends SimpleExpression<String> {
+public class ExprSubstring extends SimpleExpression<String> implements ThreadSafeSyntax {
 	static {
 		Skript.registerExpression(ExprSubstring.class, String.class, ExpressionType.COMBINED,
 				"[the] (part|sub[ ](text|string)) of %strings% (between|from) (ind(ex|ices)|character[s]|) %number% (and|to) (index|character|) %number%",
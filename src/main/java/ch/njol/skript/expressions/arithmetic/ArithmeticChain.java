@@ -177,6 +177,10 @@ public class ArithmeticChain<L, R, T> implements ArithmeticGettable<T> {
 					return null;
 			}
 
+			VectorChain vectorChain = VectorChain.fuse(left, operator, right, operationInfo);
+			if (vectorChain != null)
+				return (ArithmeticGettable<T>) vectorChain;
+
 			return new ArithmeticChain<>(left, operator, right, operationInfo);
 		}
 
@@ -11,6 +11,7 @@ import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.UnparsedLiteral;
 import ch.njol.skript.lang.parser.ParsingStack;
 import ch.njol.skript.lang.util.SimpleExpression;
@@ -41,7 +42,7 @@ import java.util.List;
 @Example("message \"You have %health of player * 2% half hearts of HP!\"")
 @Since("1.4.2")
 @SuppressWarnings("null")
-public class ExprArithmetic<L, R, T> extends SimpleExpression<T> {
+public class ExprArithmetic<L, R, T> extends SimpleExpression<T> implements ThreadSafeSyntax {
 
 	private static final Class<?>[] INTEGER_CLASSES = {Long.class, Integer.class, Short.class, Byte.class};
 
@@ -406,6 +407,13 @@ public class ExprArithmetic<L, R, T> extends SimpleExpression<T> {
 		return this;
 	}
 
+	/**
+	 * @return the parsed chain evaluated by this expression
+	 */
+	ArithmeticGettable<? extends T> getArithmeticGettable() {
+		return arithmeticGettable;
+	}
+
 	/**
 	 * For testing purposes only.
 	 * @return the first expression
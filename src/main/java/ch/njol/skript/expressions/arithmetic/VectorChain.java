@@ -0,0 +1,287 @@
+package ch.njol.skript.expressions.arithmetic;
+
+import ch.njol.skript.lang.Expression;
+import org.bukkit.event.Event;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.arithmetic.OperationInfo;
+import org.skriptlang.skript.lang.arithmetic.Operator;
+
+/**
+ * An arithmetic chain of vector operations that is evaluated on primitive components.
+ * <p>
+ * A regular {@link ArithmeticChain} creates a new vector for the result of every operation,
+ * so that e.g. {@code (a + b) * 2 - c} creates three vectors, only one of which is used in the end.
+ * When every operand of a chain is known to be a vector or a number while parsing, the chain is
+ * fused into this gettable instead, which keeps intermediate results in a single array of doubles
+ * and only creates a vector for the final result.
+ * <p>
+ * The results are the same as those of the operations registered in
+ * {@link ch.njol.skript.classes.data.DefaultOperations}.
+ */
+public final class VectorChain implements ArithmeticGettable<Vector> {
+
+	private final Node node;
+
+	private VectorChain(Node node) {
+		this.node = node;
+	}
+
+	/**
+	 * Fuses an operation into a vector chain, if it is a vector operation whose operands are known to be vectors or numbers.
+	 * @param left The left operand.
+	 * @param operator The operator.
+	 * @param right The right operand.
+	 * @param operationInfo The operation found for the types of the operands.
+	 * @return The fused chain, or null if the operation can't be fused.
+	 */
+	static @Nullable VectorChain fuse(ArithmeticGettable<?> left, Operator operator, ArithmeticGettable<?> right,
+									  @Nullable OperationInfo<?, ?, ?> operationInfo) {
+		if (operationInfo == null || operationInfo.returnType() != Vector.class)
+			return null;
+		if (operationInfo.left() != Vector.class && operationInfo.left() != Number.class)
+			return null;
+		if (operationInfo.right() != Vector.class && operationInfo.right() != Number.class)
+			return null;
+		Node leftNode = node(left);
+		Node rightNode = node(right);
+		if (leftNode == null || rightNode == null)
+			return null;
+		if (!leftNode.isVector() && !rightNode.isVector())
+			return null;
+		Operation operation;
+		if (operator.equals(Operator.ADDITION)) {
+			operation = Operation.ADD;
+		} else if (operator.equals(Operator.SUBTRACTION)) {
+			operation = Operation.SUBTRACT;
+		} else if (operator.equals(Operator.MULTIPLICATION)) {
+			operation = Operation.MULTIPLY;
+		} else if (operator.equals(Operator.DIVISION)) {
+			operation = Operation.DIVIDE;
+		} else {
+			return null;
+		}
+		return new VectorChain(new Binary(leftNode, operation, rightNode));
+	}
+
+	private static @Nullable Node node(ArithmeticGettable<?> gettable) {
+		if (gettable instanceof VectorChain chain)
+			return chain.node;
+		// A grouped chain, e.g. (a + b), is parsed as an expression of its own
+		if (gettable instanceof ArithmeticExpressionInfo<?> info) {
+			VectorChain chain = of(info.expression());
+			if (chain != null)
+				return new Group(chain.node);
+		}
+		Class<?> type = gettable.getReturnType();
+		// Subclasses of vectors keep their type in regular operations, so they can't be fused
+		if (type == Vector.class)
+			//noinspection unchecked
+			return new VectorLeaf((ArithmeticGettable<Vector>) gettable);
+		if (Number.class.isAssignableFrom(type))
+			//noinspection unchecked
+			return new NumberLeaf((ArithmeticGettable<? extends Number>) gettable);
+		return null;
+	}
+
+	/**
+	 * Returns the vector chain an expression evaluates, so that callers can use the components of its result
+	 * without creating a vector.
+	 * @param expression The expression.
+	 * @return The vector chain of the expression, or null if it isn't an arithmetic expression of a fused vector chain.
+	 */
+	public static @Nullable VectorChain of(Expression<?> expression) {
+		if (expression instanceof ExprArithmetic<?, ?, ?> arithmetic
+				&& arithmetic.getArithmeticGettable() instanceof VectorChain chain)
+			return chain;
+		return null;
+	}
+
+	/**
+	 * Evaluates this chain without creating a vector.
+	 * @param event The event.
+	 * @return An array whose first three elements are the x, y and z components of the result,
+	 * or null if an operand couldn't be evaluated.
+	 */
+	public double @Nullable [] evaluate(Event event) {
+		double[] registers = new double[node.height() * 3];
+		return node.evaluate(event, registers, 0) ? registers : null;
+	}
+
+	/**
+	 * For testing purposes only.
+	 * @return The amount of operations fused into this chain
+	 */
+	int operations() {
+		return node.operations();
+	}
+
+	@Override
+	public @Nullable Vector get(Event event) {
+		double[] result = evaluate(event);
+		return result == null ? null : new Vector(result[0], result[1], result[2]);
+	}
+
+	@Override
+	public Class<? extends Vector> getReturnType() {
+		return Vector.class;
+	}
+
+	/**
+	 * A node of a fused chain. Nodes write their result to the three registers starting at an offset,
+	 * and may use the registers after those for the results of their operands.
+	 */
+	private sealed interface Node permits VectorLeaf, NumberLeaf, Group, Binary {
+
+		/**
+		 * @return Whether the node evaluates to a vector, as opposed to a number,
+		 * in which case all three registers are set to the number.
+		 */
+		boolean isVector();
+
+		/**
+		 * @return The amount of register triples needed to evaluate this node.
+		 */
+		int height();
+
+		/**
+		 * @return The amount of operations in this node.
+		 */
+		int operations();
+
+		boolean evaluate(Event event, double[] registers, int offset);
+
+	}
+
+	private record VectorLeaf(ArithmeticGettable<Vector> gettable) implements Node {
+
+		@Override
+		public boolean isVector() {
+			return true;
+		}
+
+		@Override
+		public int height() {
+			return 1;
+		}
+
+		@Override
+		public int operations() {
+			return 0;
+		}
+
+		@Override
+		public boolean evaluate(Event event, double[] registers, int offset) {
+			Vector vector = gettable.get(event);
+			if (vector == null) {
+				if (gettable instanceof ArithmeticChain)
+					return false;
+				registers[offset] = registers[offset + 1] = registers[offset + 2] = 0;
+				return true;
+			}
+			registers[offset] = vector.getX();
+			registers[offset + 1] = vector.getY();
+			registers[offset + 2] = vector.getZ();
+			return true;
+		}
+
+	}
+
+	private record NumberLeaf(ArithmeticGettable<? extends Number> gettable) implements Node {
+
+		@Override
+		public boolean isVector() {
+			return false;
+		}
+
+		@Override
+		public int height() {
+			return 1;
+		}
+
+		@Override
+		public int operations() {
+			return 0;
+		}
+
+		@Override
+		public boolean evaluate(Event event, double[] registers, int offset) {
+			Number number = gettable.get(event);
+			if (number == null && gettable instanceof ArithmeticChain)
+				return false;
+			double value = number == null ? 0 : number.doubleValue();
+			registers[offset] = registers[offset + 1] = registers[offset + 2] = value;
+			return true;
+		}
+
+	}
+
+	/**
+	 * A grouped chain, which evaluates to a zero vector if it can't be evaluated,
+	 * just like any other expression whose value is missing.
+	 */
+	private record Group(Node node) implements Node {
+
+		@Override
+		public boolean isVector() {
+			return node.isVector();
+		}
+
+		@Override
+		public int height() {
+			return node.height();
+		}
+
+		@Override
+		public int operations() {
+			return node.operations();
+		}
+
+		@Override
+		public boolean evaluate(Event event, double[] registers, int offset) {
+			if (!node.evaluate(event, registers, offset))
+				registers[offset] = registers[offset + 1] = registers[offset + 2] = 0;
+			return true;
+		}
+
+	}
+
+	private enum Operation {
+		ADD, SUBTRACT, MULTIPLY, DIVIDE
+	}
+
+	private record Binary(Node left, Operation operation, Node right, int height) implements Node {
+
+		Binary(Node left, Operation operation, Node right) {
+			this(left, operation, right, Math.max(left.height(), right.height() + 1));
+		}
+
+		@Override
+		public boolean isVector() {
+			return true;
+		}
+
+		@Override
+		public int operations() {
+			return left.operations() + right.operations() + 1;
+		}
+
+		@Override
+		public boolean evaluate(Event event, double[] registers, int offset) {
+			if (!left.evaluate(event, registers, offset) || !right.evaluate(event, registers, offset + 3))
+				return false;
+			for (int i = offset; i < offset + 3; i++) {
+				double other = registers[i + 3];
+				registers[i] = switch (operation) {
+					case ADD -> registers[i] + other;
+					case SUBTRACT -> registers[i] - other;
+					case MULTIPLY -> registers[i] * other;
+					case DIVIDE -> registers[i] / other;
+				};
+			}
+			return true;
+		}
+
+	}
+
+}
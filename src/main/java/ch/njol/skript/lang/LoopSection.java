@@ -1,6 +1,17 @@
 package ch.njol.skript.lang;
 
+import ch.njol.skript.effects.Delay;
+import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.sections.SecConditional;
+import ch.njol.skript.structures.StructEvent;
+import ch.njol.skript.structures.StructExecution;
+import ch.njol.skript.util.ExecutionBudget;
+import ch.njol.skript.util.ScriptAccounting;
+import ch.njol.skript.variables.Variables;
+import ch.njol.util.Kleenean;
 import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.script.Script;
 
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -15,6 +26,10 @@ public abstract class LoopSection extends Section implements SyntaxElement, Debu
 
 	protected final transient Map<Event, Long> currentLoopCounter = new WeakHashMap<>();
 
+	private boolean deferrable;
+
+	private @Nullable Script script;
+
 	/**
 	 * @param event The event where the loop is used to return its loop iterations
 	 * @return The loop iteration number
@@ -23,6 +38,69 @@ public abstract class LoopSection extends Section implements SyntaxElement, Debu
 		return currentLoopCounter.getOrDefault(event, 1L);
 	}
 
+	/**
+	 * Determines whether iterations of this loop may be deferred to a later tick once the
+	 * {@link ExecutionBudget execution budget} is used up. This is only the case for loops of scripts with a low
+	 * {@link StructExecution execution priority} that are used where delays are allowed.
+	 * As the code of such a loop and the code after it may then run at a later time, they are treated as possibly delayed.
+	 * Also determines the script the iterations of this loop are accounted to.
+	 * <p>
+	 * Must be called during initialization, before the code of the loop is loaded.
+	 */
+	protected void initDeferral() {
+		ParserInstance parser = getParser();
+		script = parser.isActive() ? parser.getCurrentScript() : null;
+		if (!parser.isActive() || !parser.isCurrentStructure(StructEvent.class)
+				|| !StructExecution.isLowPriority(parser.getCurrentScript()))
+			return;
+		// Other sections may not allow delays, or may run their code elsewhere
+		for (TriggerSection section : parser.getCurrentSections()) {
+			if (!(section instanceof SecConditional) && !(section instanceof LoopSection))
+				return;
+		}
+		deferrable = true;
+		if (parser.getHasDelayBefore().isFalse())
+			parser.setHasDelayBefore(Kleenean.UNKNOWN);
+	}
+
+	/**
+	 * Defers the next iteration of this loop to a later tick if the execution budget is used up.
+	 * The first iteration is never deferred.
+	 * @param event The event the loop is used with.
+	 * @return Whether the next iteration was deferred, in which case the loop must not continue.
+	 */
+	protected boolean deferIfOverBudget(Event event) {
+		if (!deferrable || !currentLoopCounter.containsKey(event) || !ExecutionBudget.isExceeded())
+			return false;
+		Object localVars = Variables.removeLocals(event); // Back up local variables
+		ExecutionBudget.deferLoop(() -> {
+			Delay.addDelayedEvent(event); // Mark this event as delayed
+			if (localVars != null)
+				Variables.setLocalVariables(event, localVars);
+
+			boolean accounted = ScriptAccounting.enter(script);
+			try {
+				TriggerItem.walk(this, event);
+			} finally {
+				if (accounted)
+					ScriptAccounting.exit();
+			}
+
+			Variables.removeLocals(event); // Clean up local vars, we may be exiting now
+		});
+		return true;
+	}
+
+	/**
+	 * Increments the loop counter of the given event at the start of an iteration.
+	 * @param event The event the loop is used with.
+	 */
+	protected void incrementLoopCounter(Event event) {
+		currentLoopCounter.put(event, currentLoopCounter.getOrDefault(event, 0L) + 1);
+		if (script != null)
+			script.getUsage().recordLoopIteration();
+	}
+
 	/**
 	 * @return The next {@link TriggerItem} after the loop
 	 */
@@ -14,7 +14,7 @@ import org.skriptlang.skript.lang.script.ScriptWarning;
 /**
  * Represents a condition that can be simplified during initialization.
  */
-public class SimplifiedCondition extends Condition {
+public class SimplifiedCondition extends Condition implements ThreadSafeSyntax {
 
 	/**
 	 * Creates a new {@link SimplifiedCondition} from a {@link Condition} by evaluating it with a {@link ContextlessEvent}.
@@ -11,6 +11,7 @@ import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.structures.StructEvent.EventData;
+import ch.njol.skript.structures.StructExecution;
 import ch.njol.util.coll.iterator.ConsumingIterator;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
@@ -130,8 +131,18 @@ public abstract class SkriptEvent extends Structure {
 		try {
 			getParser().setCurrentEvent(skriptEventInfo.getName().toLowerCase(Locale.ENGLISH), eventClasses);
 
-			@Nullable List<TriggerItem> items = ScriptLoader.loadItems(source);
 			Script script = getParser().getCurrentScript();
+			if (StructExecution.isLowPriority(script) && !canExecuteAsynchronously()) {
+				for (Class<? extends Event> eventClass : eventClasses) {
+					if (!Cancellable.class.isAssignableFrom(eventClass)) {
+						Skript.warning("This trigger may be run after its event has passed when the execution budget is used up, "
+							+ "as its script has a low execution priority. Changes it makes to the event may then have no effect.");
+						break;
+					}
+				}
+			}
+
+			@Nullable List<TriggerItem> items = ScriptLoader.loadItems(source);
 
 			trigger = new Trigger(script, expr, this, items);
 			int lineNumber = source.getLine();
@@ -17,6 +17,7 @@ import ch.njol.skript.lang.parser.DefaultValueData;
 import ch.njol.skript.lang.parser.ParseStackOverflowException;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.lang.parser.ParsingStack;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
 import ch.njol.skript.lang.simplification.Simplifiable;
 import ch.njol.skript.lang.util.SimpleLiteral;
 import ch.njol.skript.localization.Language;
@@ -28,9 +29,11 @@ import ch.njol.skript.log.ParseLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.patterns.MalformedPatternException;
 import ch.njol.skript.patterns.PatternCompiler;
+import ch.njol.skript.patterns.PatternSignature;
 import ch.njol.skript.patterns.SkriptPattern;
 import ch.njol.skript.patterns.TypePatternElement;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.timings.LoadProfiler;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.Kleenean;
 import ch.njol.util.NonNullPair;
@@ -75,6 +78,11 @@ public final class SkriptParser {
 
 	private final String expr;
 
+	/**
+	 * The signature of {@link #expr}, computed when it is first matched against a pattern.
+	 */
+	private @Nullable PatternSignature signature;
+
 	public final static int PARSE_EXPRESSIONS = 1;
 	public final static int PARSE_LITERALS = 2;
 	public final static int ALL_FLAGS = PARSE_EXPRESSIONS | PARSE_LITERALS;
@@ -202,13 +210,17 @@ public final class SkriptParser {
 
 	private <T extends SyntaxElement> @Nullable T parse(Iterator<? extends SyntaxInfo<? extends T>> source) {
 		ParsingStack parsingStack = getParser().getParsingStack();
+		ThreadSafetyData threadSafety = getParser().getData(ThreadSafetyData.class);
+		int threadSafetyMark = threadSafety.mark();
 		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
 			while (source.hasNext()) {
 				SyntaxInfo<? extends T> info = source.next();
+				int profile = LoadProfiler.enterSyntax(info);
 				int matchedPattern = -1; // will increment at the start of each iteration
 				patternsLoop: for (String pattern : info.patterns()) {
 					matchedPattern++;
 					log.clear();
+					threadSafety.rewind(threadSafetyMark);
 					ParseResult parseResult;
 
 					try {
@@ -277,12 +289,16 @@ public final class SkriptParser {
 							if (element == null)
 								continue;
 						}
+						threadSafety.visit(element, expr);
+						LoadProfiler.exitSyntax(profile, true);
 						return element;
 					}
 				}
+				LoadProfiler.exitSyntax(profile, false);
 			}
 
 			// No successful syntax elements parsed, print errors and return
+			threadSafety.rewind(threadSafetyMark);
 			log.printError();
 			return null;
 		}
@@ -462,7 +478,10 @@ public final class SkriptParser {
 				if (!inExpression && (character == '{' || character == '}'))
 					return null;
 			}
-			return Variable.newInstance(variableName, returnTypes);
+			Variable<T> variable = Variable.newInstance(variableName, returnTypes);
+			if (variable != null)
+				ParserInstance.get().getData(ThreadSafetyData.class).visit(variable, expr);
+			return variable;
 		}
 		return null;
 	}
@@ -473,7 +492,10 @@ public final class SkriptParser {
 			return null;
 		}
 		if (expr.startsWith("\"") && expr.length() != 1 && nextQuote(expr, 1) == expr.length() - 1) {
-			return VariableString.newInstance("" + expr.substring(1, expr.length() - 1));
+			VariableString string = VariableString.newInstance("" + expr.substring(1, expr.length() - 1));
+			if (string != null)
+				ParserInstance.get().getData(ThreadSafetyData.class).visit(string, expr);
+			return string;
 		} else {
 			var iterator = new CheckedIterator<>(Skript.instance().syntaxRegistry().syntaxes(SyntaxRegistry.EXPRESSION).iterator(), info -> {
 				if (info == null || info.returnType() == Object.class)
@@ -546,7 +568,7 @@ public final class SkriptParser {
 						return convertedExpression;
 					}
 					// Print errors, if we couldn't get the correct type
-					log.printError(parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
+					log.printError(NOT_OF_TYPE_ERROR, ErrorQuality.NOT_AN_EXPRESSION, parsedExpression, types);
 					return null;
 				}
 				log.clear();
@@ -734,7 +756,7 @@ public final class SkriptParser {
 					}
 
 					// Print errors, if we couldn't get the correct type
-					log.printError(parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
+					log.printError(NOT_OF_TYPE_ERROR, ErrorQuality.NOT_AN_EXPRESSION, parsedExpression, types);
 					return null;
 				}
 				log.clear();
@@ -1185,7 +1207,11 @@ public final class SkriptParser {
 	 */
 	public <T> org.skriptlang.skript.common.function.FunctionReference<T> parseFunctionReference() {
 		if (context == ParseContext.DEFAULT || context == ParseContext.EVENT) {
-			return new FunctionReferenceParser(context, flags).parseFunctionReference(expr);
+			org.skriptlang.skript.common.function.FunctionReference<T> reference =
+					new FunctionReferenceParser(context, flags).parseFunctionReference(expr);
+			if (reference != null) // Functions may run any code
+				getParser().getData(ThreadSafetyData.class).visitUnsafe(expr);
+			return reference;
 		}
 		return null;
 	}
@@ -1374,6 +1400,13 @@ public final class SkriptParser {
 		return -1;
 	}
 
+	/**
+	 * The error of an expression that is not of the expected types, formatted only if it's printed.
+	 * Takes the expression and the expected types as arguments.
+	 */
+	private static final ParseLogHandler.ErrorMessage NOT_OF_TYPE_ERROR = args ->
+		((Expression<?>) args[0]).toString(null, false) + " " + Language.get("is") + " " + notOfType((Class<?>[]) args[1]);
+
 	/**
 	 * @param types The types to include in the message
 	 * @return "not an x" or "neither an x, a y nor a z"
@@ -1543,7 +1576,9 @@ public final class SkriptParser {
 
 	private @Nullable ParseResult parse_i(String pattern) {
 		SkriptPattern skriptPattern = patterns.computeIfAbsent(pattern, PatternCompiler::compile);
-		ch.njol.skript.patterns.MatchResult matchResult = skriptPattern.match(expr, flags, context);
+		if (signature == null)
+			signature = PatternSignature.of(expr);
+		ch.njol.skript.patterns.MatchResult matchResult = skriptPattern.match(expr, flags, context, signature);
 		if (matchResult == null)
 			return null;
 		return matchResult.toParseResult();
@@ -1672,6 +1707,7 @@ public final class SkriptParser {
 	// register default value data when the parser class is loaded.
 	static {
 		ParserInstance.registerData(DefaultValueData.class, DefaultValueData::new);
+		ParserInstance.registerData(ThreadSafetyData.class, ThreadSafetyData::new);
 	}
 
 }
@@ -0,0 +1,27 @@
+package ch.njol.skript.lang;
+
+/**
+ * A syntax element that does not access any server state and can thus safely be run off the main server thread,
+ * for example within an async section.
+ * <p>
+ * Implementing this interface only vouches for the element itself.
+ * Any expressions or conditions the element contains are checked separately while parsing.
+ * Elements that keep per-event state (such as loops) must make sure that state is thread-safe before implementing this.
+ *
+ * @see ch.njol.skript.lang.parser.ThreadSafetyData
+ * @see ch.njol.skript.sections.SecAsync
+ */
+public interface ThreadSafeSyntax {
+
+	/**
+	 * Checks whether this element can be run off the main server thread with the expressions it has been initialised with.
+	 * Elements that handle values generically, such as by comparing or converting them, should only return true
+	 * if the values they handle are {@link ch.njol.skript.lang.parser.ThreadSafetyData#hasThreadSafeValues(Expression) thread-safe}.
+	 * This is only called after the element has been initialised.
+	 * @return Whether this element is thread-safe.
+	 */
+	default boolean isThreadSafe() {
+		return true;
+	}
+
+}
@@ -1,5 +1,7 @@
 package ch.njol.skript.lang;
 
+import ch.njol.skript.util.ExecutionBudget;
+import ch.njol.skript.util.ScriptAccounting;
 import ch.njol.skript.variables.Variables;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
@@ -25,12 +27,25 @@ public class Trigger extends TriggerSection {
 	}
 
 	/**
-	 * Executes this trigger for a certain event.
+	 * Executes this trigger for a certain event,
+	 * unless its script is {@link ScriptAccounting#isThrottled(Script) throttled} for exceeding one of its quotas.
 	 * @param event The event to execute this Trigger with.
 	 * @return false if an exception occurred.
 	 */
 	public boolean execute(Event event) {
-		boolean success = TriggerItem.walk(this, event);
+		if (ScriptAccounting.isThrottled(script))
+			return true;
+		boolean budgeted = ExecutionBudget.enter();
+		boolean accounted = ScriptAccounting.enter(script);
+		boolean success;
+		try {
+			success = TriggerItem.walk(this, event);
+		} finally {
+			if (accounted)
+				ScriptAccounting.exit();
+			if (budgeted)
+				ExecutionBudget.exit();
+		}
 
 		// Clear local variables
 		Variables.removeLocals(event);
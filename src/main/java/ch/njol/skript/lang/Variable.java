@@ -42,7 +42,7 @@ import java.util.Map.Entry;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, KeyProviderExpression<T> {
+public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, KeyProviderExpression<T>, ThreadSafeSyntax {
 
 	private final static String SINGLE_SEPARATOR_CHAR = ":";
 	public final static String SEPARATOR = SINGLE_SEPARATOR_CHAR + SINGLE_SEPARATOR_CHAR;
@@ -268,6 +268,15 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 		return list;
 	}
 
+	/**
+	 * Only local variables are thread-safe, as they belong to a single event.
+	 * The name of the variable must not depend on values that aren't thread-safe either, as they are converted to text.
+	 */
+	@Override
+	public boolean isThreadSafe() {
+		return local && name.isThreadSafe();
+	}
+
 	@Override
 	public boolean isSingle() {
 		return !list;
@@ -440,6 +449,8 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 
 	private void set(Event event, @Nullable Object value) {
 		Variables.setVariable("" + name.toString(event), value, event, local);
+		if (!local && script != null)
+			script.getUsage().recordVariableWrite();
 	}
 
 	private void setIndex(Event event, String index, @Nullable Object value) {
@@ -447,6 +458,8 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 		String name = this.name.toString(event);
 		assert name.endsWith(SEPARATOR + "*") : name + "; " + this.name;
 		Variables.setVariable(name.substring(0, name.length() - 1) + index, value, event, local);
+		if (!local && script != null)
+			script.getUsage().recordVariableWrite();
 	}
 
 	@Override
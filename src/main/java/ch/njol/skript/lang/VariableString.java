@@ -6,6 +6,7 @@ import ch.njol.skript.classes.ClassInfo;
 import ch.njol.skript.expressions.ExprColoured;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
 import ch.njol.skript.lang.util.ConvertedExpression;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.log.BlockingLogHandler;
@@ -16,6 +17,7 @@ import ch.njol.skript.structures.StructVariables.DefaultVariables;
 import ch.njol.skript.util.StringMode;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.util.chat.ChatMessages;
+import ch.njol.skript.util.chat.LinkParseMode;
 import ch.njol.skript.util.chat.MessageComponent;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
@@ -39,7 +41,7 @@ import java.util.stream.Collectors;
 /**
  * Represents a string that may contain expressions, and is thus "variable".
  */
-public class VariableString implements Expression<String> {
+public class VariableString implements Expression<String>, ThreadSafeSyntax {
 
 	private final @Nullable Script script;
 	protected final String original;
@@ -60,6 +62,14 @@ public class VariableString implements Expression<String> {
 	 */
 	private final MessageComponent[] components;
 
+	/**
+	 * The formatted components of a simple string, which are only parsed once.
+	 * As parsing depends on the chat settings of the config, these are stored along with them.
+	 */
+	private volatile @Nullable ParsedSimple parsedSimple;
+
+	private record ParsedSimple(MessageComponent[] components, LinkParseMode linkParseMode, boolean colorResetCodes) { }
+
 	/**
 	 * Creates a new VariableString which does not contain variables.
 	 *
@@ -399,10 +409,8 @@ public class VariableString implements Expression<String> {
 	 * @return Message components.
 	 */
 	public List<MessageComponent> getMessageComponents(Event event, @Nullable StringBuilder unformattedBuilder) {
-		if (isSimple) { // Trusted, constant string in a script
-			assert simpleUnformatted != null;
-			return ChatMessages.parse(simpleUnformatted);
-		}
+		if (isSimple) // Trusted, constant string in a script
+			return getSimpleMessageComponents();
 
 		// Parse formatting
 		Object[] strings = this.stringsUnformatted;
@@ -458,6 +466,23 @@ public class VariableString implements Expression<String> {
 		return message;
 	}
 
+	/**
+	 * @return Copies of the formatted components of this simple string, parsing them only if they have not been yet.
+	 */
+	private List<MessageComponent> getSimpleMessageComponents() {
+		assert simpleUnformatted != null;
+		ParsedSimple parsed = parsedSimple;
+		if (parsed == null || parsed.linkParseMode != ChatMessages.linkParseMode || parsed.colorResetCodes != ChatMessages.colorResetCodes) {
+			parsed = new ParsedSimple(ChatMessages.parseToArray(simpleUnformatted), ChatMessages.linkParseMode, ChatMessages.colorResetCodes);
+			parsedSimple = parsed;
+		}
+		// Callers may modify the components
+		List<MessageComponent> components = new ArrayList<>(parsed.components.length);
+		for (MessageComponent component : parsed.components)
+			components.add(component.copy());
+		return components;
+	}
+
 	/**
 	 * Gets message components from this string. Formatting is parsed
 	 * everywhere, which is a potential security risk.
@@ -465,10 +490,8 @@ public class VariableString implements Expression<String> {
 	 * @return Message components.
 	 */
 	public List<MessageComponent> getMessageComponentsUnsafe(Event event) {
-		if (isSimple) { // Trusted, constant string in a script
-			assert simpleUnformatted != null;
-			return ChatMessages.parse(simpleUnformatted);
-		}
+		if (isSimple) // Trusted, constant string in a script
+			return getSimpleMessageComponents();
 
 		return ChatMessages.parse(toUnformattedString(event));
 	}
@@ -612,6 +635,20 @@ public class VariableString implements Expression<String> {
 		return isSimple;
 	}
 
+	/**
+	 * A string is only thread-safe if all the values it contains are, as they are converted to text.
+	 */
+	@Override
+	public boolean isThreadSafe() {
+		if (strings == null)
+			return true;
+		for (Object string : strings) {
+			if (string instanceof Expression<?> expression && !ThreadSafetyData.hasThreadSafeValues(expression))
+				return false;
+		}
+		return true;
+	}
+
 	public StringMode getMode() {
 		return mode;
 	}
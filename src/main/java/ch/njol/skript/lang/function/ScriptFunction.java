@@ -4,6 +4,7 @@ import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.lang.util.SimpleEvent;
+import ch.njol.skript.timings.SkriptProfiler;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.variables.HintManager;
 import ch.njol.skript.variables.Variables;
@@ -81,7 +82,9 @@ public class ScriptFunction<T> extends Function<T> implements ReturnHandler<T> {
 			i++;
 		}
 
+		long start = SkriptProfiler.start();
 		trigger.execute(event);
+		SkriptProfiler.recordFunction(this, start);
 		return type() != null ? returnValues.get() : null;
 	}
 
@@ -115,7 +118,9 @@ public class ScriptFunction<T> extends Function<T> implements ReturnHandler<T> {
 			}
 		}
 
+		long start = SkriptProfiler.start();
 		trigger.execute(newEvent);
+		SkriptProfiler.recordFunction(this, start);
 
 		T[] vs = returnValues.get();
 		if (type() == null || vs == null || vs.length == 0) {
@@ -0,0 +1,135 @@
+package ch.njol.skript.lang.parser;
+
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.Literal;
+import ch.njol.skript.lang.SyntaxElement;
+import ch.njol.skript.lang.ThreadSafeSyntax;
+import ch.njol.skript.util.Timespan;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Parser Data that records which parsed syntax elements are not {@link ThreadSafeSyntax thread-safe}.
+ * <br>
+ * Recording only takes place between {@link #startTracking()} and {@link #stopTracking(List)}.
+ * Elements parsed during a pattern attempt that ends up failing are discarded again, so only elements that are
+ * part of the final parse result are reported.
+ * <br>
+ * Variables and strings are recorded as well, as they are parsed by the parser itself rather than as registered syntax.
+ * @see ch.njol.skript.sections.SecAsync SecAsync for example usage
+ */
+public class ThreadSafetyData extends ParserInstance.Data {
+
+	/**
+	 * The types of values that don't belong to the server and can't be changed, which makes them safe to use on any thread.
+	 */
+	private static final Class<?>[] THREAD_SAFE_TYPES = {String.class, Number.class, Boolean.class, Timespan.class};
+
+	private @Nullable List<String> unsafeElements;
+
+	public ThreadSafetyData(ParserInstance parserInstance) {
+		super(parserInstance);
+	}
+
+	/**
+	 * Starts recording elements that are not thread-safe.
+	 * @return The recording that was active before this call, to be passed to {@link #stopTracking(List)}.
+	 */
+	public @Nullable List<String> startTracking() {
+		List<String> previous = unsafeElements;
+		unsafeElements = new ArrayList<>();
+		return previous;
+	}
+
+	/**
+	 * Stops recording and restores the previous recording.
+	 * @param previous The value returned by the matching {@link #startTracking()} call.
+	 * @return The input of every element that was not thread-safe since the matching {@link #startTracking()} call.
+	 */
+	public List<String> stopTracking(@Nullable List<String> previous) {
+		List<String> recorded = unsafeElements;
+		assert recorded != null;
+		unsafeElements = previous;
+		return recorded;
+	}
+
+	/**
+	 * @return Whether elements are currently being recorded.
+	 */
+	public boolean isTracking() {
+		return unsafeElements != null;
+	}
+
+	/**
+	 * Records the given element if it is not thread-safe.
+	 * @param element The element that has been parsed successfully.
+	 * @param input The input the element was parsed from.
+	 */
+	public void visit(SyntaxElement element, String input) {
+		if (unsafeElements != null && !isThreadSafe(element))
+			unsafeElements.add(input);
+	}
+
+	/**
+	 * Records parsed input that is never thread-safe, such as a function call.
+	 * @param input The input that has been parsed.
+	 */
+	public void visitUnsafe(String input) {
+		if (unsafeElements != null)
+			unsafeElements.add(input);
+	}
+
+	/**
+	 * @return A marker to later {@link #rewind(int)} to.
+	 */
+	public int mark() {
+		return unsafeElements == null ? 0 : unsafeElements.size();
+	}
+
+	/**
+	 * Discards everything that has been recorded since the given marker was obtained.
+	 * @param mark A marker obtained from {@link #mark()}.
+	 */
+	public void rewind(int mark) {
+		List<String> unsafeElements = this.unsafeElements;
+		if (unsafeElements != null && unsafeElements.size() > mark)
+			unsafeElements.subList(mark, unsafeElements.size()).clear();
+	}
+
+	/**
+	 * @param element An initialised syntax element.
+	 * @return Whether the given element can be run off the main server thread.
+	 * Literals always can, as their values have already been computed while parsing.
+	 * The expressions an element contains are not checked, as they are visited on their own.
+	 */
+	public static boolean isThreadSafe(SyntaxElement element) {
+		if (element instanceof Literal<?>)
+			return true;
+		return element instanceof ThreadSafeSyntax threadSafeSyntax && threadSafeSyntax.isThreadSafe();
+	}
+
+	/**
+	 * Checks whether the values of an expression are known to be thread-safe, based on the types it may return.
+	 * Expressions that may return any object, such as most variables, are not.
+	 * @param expression The expression to check.
+	 * @return Whether every value the expression may return can be handled off the main server thread.
+	 */
+	public static boolean hasThreadSafeValues(Expression<?> expression) {
+		for (Class<?> type : expression.possibleReturnTypes()) {
+			if (!isThreadSafeType(type))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isThreadSafeType(Class<?> type) {
+		for (Class<?> threadSafeType : THREAD_SAFE_TYPES) {
+			if (threadSafeType.isAssignableFrom(type))
+				return true;
+		}
+		return false;
+	}
+
+}
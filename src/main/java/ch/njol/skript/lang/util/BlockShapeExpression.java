@@ -0,0 +1,24 @@
+package ch.njol.skript.lang.util;
+
+import ch.njol.skript.util.BlockCursor;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An expression returning the blocks of a shape, such as a sphere or a cuboid,
+ * whose positions can be iterated without creating a {@link org.bukkit.block.Block} for each of them.
+ * <p>
+ * Syntax elements consuming such an expression may use its cursor to filter positions by their material,
+ * e.g. {@link ch.njol.skript.expressions.ExprFilter} for filters like {@code block input is stone}.
+ */
+public interface BlockShapeExpression {
+
+	/**
+	 * Creates a cursor over the positions of the blocks this expression returns, in the order they would be iterated in.
+	 * @param event The event.
+	 * @return A cursor over the positions of the blocks, or null if this expression can't provide one for the given event,
+	 * in which case its {@link ch.njol.skript.lang.Expression#iterator(Event) iterator} must be used.
+	 */
+	@Nullable BlockCursor getCursor(Event event);
+
+}
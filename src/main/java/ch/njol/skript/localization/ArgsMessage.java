@@ -2,14 +2,25 @@ package ch.njol.skript.localization;
 
 import java.util.IllegalFormatException;
 
+import org.jetbrains.annotations.Nullable;
+
 import ch.njol.skript.Skript;
 
 public final class ArgsMessage extends Message {
 	
+	@Nullable
+	private MessageTemplate template;
+	
 	public ArgsMessage(String key) {
 		super(key);
 	}
 	
+	@Override
+	protected void onValueChange() {
+		String value = getValue();
+		template = value == null ? null : MessageTemplate.compile(value);
+	}
+	
 	@Override
 	public String toString() {
 		throw new UnsupportedOperationException();
@@ -17,8 +28,9 @@ public final class ArgsMessage extends Message {
 	
 	public String toString(Object... args) {
 		try {
-			String val = getValue();
-			return val == null ? key : "" + String.format(val, args);
+			validate();
+			MessageTemplate template = this.template;
+			return template == null ? key : template.format(args);
 		} catch (IllegalFormatException e) {
 			String m = "The formatted message '" + key + "' uses an illegal format: " + e.getLocalizedMessage();
 			Skript.adminBroadcast("<red>" + m);
@@ -3,11 +3,15 @@ package ch.njol.skript.localization;
 import java.util.IllegalFormatException;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.jetbrains.annotations.Nullable;
+
 import ch.njol.skript.Skript;
 
 public final class FormattedMessage extends Message {
 	
 	private final Object[] args;
+	@Nullable
+	private MessageTemplate template;
 	
 	/**
 	 * @param key
@@ -19,11 +23,18 @@ public final class FormattedMessage extends Message {
 		this.args = args;
 	}
 	
+	@Override
+	protected void onValueChange() {
+		String value = getValue();
+		template = value == null ? null : MessageTemplate.compile(value);
+	}
+	
 	@Override
 	public String toString() {
 		try {
-			String val = getValue();
-			return val == null ? key : "" + String.format(val, args);
+			validate();
+			MessageTemplate template = this.template;
+			return template == null ? key : template.format(args);
 		} catch (final IllegalFormatException e) {
 			String m = "The formatted message '" + key + "' uses an illegal format: " + e.getLocalizedMessage();
 			Skript.adminBroadcast("<red>" + m);
@@ -41,10 +41,24 @@ public class Language {
 	 */
 	private static String name = "english";
 
-	private static final HashMap<String, String> defaultLanguage = new HashMap<>();
+	/**
+	 * The messages of the default and the localized language files.
+	 * Tables are never modified, but replaced as a whole when languages are loaded,
+	 * so that messages can be read from any thread without locking.
+	 */
+	private record Tables(Map<String, String> defaultLanguage, @Nullable Map<String, String> localizedLanguage) {
 
-	@Nullable
-	private static HashMap<String, String> localizedLanguage = null;
+		Tables {
+			defaultLanguage = Map.copyOf(defaultLanguage);
+			localizedLanguage = localizedLanguage == null ? null : Map.copyOf(localizedLanguage);
+		}
+
+	}
+
+	private static volatile Tables tables = new Tables(Map.of(), null);
+
+	// only changed on the thread loading languages
+	private static volatile int generation = 0;
 	
 	private static final HashMap<String, Version> langVersion = new HashMap<>();
 	
@@ -52,14 +66,37 @@ public class Language {
 		return name;
 	}
 
+	/**
+	 * The generation of the language tables changes whenever languages are loaded,
+	 * so that values derived from messages can tell whether they are outdated.
+	 *
+	 * @return The current generation of the language tables
+	 */
+	static int getGeneration() {
+		return generation;
+	}
+
+	private static void publish(Tables tables) {
+		Language.tables = tables;
+		generation++;
+	}
+
+	private static void notifyListeners() {
+		for (LanguageChangeListener l : listeners)
+			l.onLanguageChange();
+		// messages may have been validated by listeners before all of them ran, e.g. before the articles of nouns were updated
+		generation++;
+	}
+
 	@Nullable
 	private static String get_i(String key) {
+		Tables tables = Language.tables;
 		String value;
-		if ((value = defaultLanguage.get(key)) != null) {
+		if ((value = tables.defaultLanguage.get(key)) != null) {
 			return value;
 		}
 
-		if (localizedLanguage != null && (value = localizedLanguage.get(key)) != null) {
+		if (tables.localizedLanguage != null && (value = tables.localizedLanguage.get(key)) != null) {
 			return value;
 		}
 
@@ -148,21 +185,22 @@ public class Language {
 	 */
 	public static boolean keyExists(String key) {
 		key = key.toLowerCase(Locale.ENGLISH);
-		return defaultLanguage.containsKey(key) || (localizedLanguage != null && localizedLanguage.containsKey(key));
+		Tables tables = Language.tables;
+		return tables.defaultLanguage.containsKey(key) || (tables.localizedLanguage != null && tables.localizedLanguage.containsKey(key));
 	}
 
 	/**
 	 * @return Whether the given key exists in the default language file.
 	 */
 	public static boolean keyExistsDefault(String key) {
-		return defaultLanguage.containsKey(key.toLowerCase(Locale.ENGLISH));
+		return tables.defaultLanguage.containsKey(key.toLowerCase(Locale.ENGLISH));
 	}
 
 	/**
 	 * @return whether the default language file is loaded.
 	 */
 	public static boolean isInitialized() {
-		return !defaultLanguage.isEmpty();
+		return !tables.defaultLanguage.isEmpty();
 	}
 
 	@Nullable
@@ -219,14 +257,15 @@ public class Language {
 
 			langVersion.put(addon.name(), v == null ? Skript.getVersion() : new Version(v));
 			def.remove("version");
+			Tables tables = Language.tables;
+			Map<String, String> defaultLanguage = new HashMap<>(tables.defaultLanguage);
 			defaultLanguage.putAll(def);
 
-			if (localizedLanguage == null)
-				localizedLanguage = new HashMap<>();
+			Map<String, String> localizedLanguage = tables.localizedLanguage == null ? new HashMap<>() : new HashMap<>(tables.localizedLanguage);
 			localizedLanguage.putAll(en);
 
-			for (LanguageChangeListener l : listeners)
-				l.onLanguageChange();
+			publish(new Tables(defaultLanguage, localizedLanguage));
+			notifyListeners();
 
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -236,10 +275,11 @@ public class Language {
 	public static boolean load(String name) {
 		name = name.toLowerCase(Locale.ENGLISH);
 
-		localizedLanguage = new HashMap<>();
-		boolean exists = load(Skript.instance(), name, true);
+		Map<String, String> defaultLanguage = tables.defaultLanguage;
+		Map<String, String> localizedLanguage = new HashMap<>();
+		boolean exists = load(Skript.instance(), name, true, defaultLanguage, localizedLanguage);
 		for (SkriptAddon addon : Skript.instance().addons()) {
-			exists |= load(addon, name, false);
+			exists |= load(addon, name, false, defaultLanguage, localizedLanguage);
 		}
 		if (!exists) {
 			if (name.equals("english")) {
@@ -252,13 +292,14 @@ public class Language {
 
 		Language.name = name;
 
-		for (LanguageChangeListener l : listeners)
-			l.onLanguageChange();
+		publish(new Tables(defaultLanguage, localizedLanguage));
+		notifyListeners();
 
 		return true;
 	}
 
-	private static boolean load(SkriptAddon addon, String name, boolean tryUpdate) {
+	private static boolean load(SkriptAddon addon, String name, boolean tryUpdate,
+								Map<String, String> defaultLanguage, Map<String, String> localizedLanguage) {
 		String languageFileDirectory = getSanitizedLanguageDirectory(addon);
 		if (languageFileDirectory == null) {
 			return false;
@@ -311,19 +352,15 @@ public class Language {
 			}
 		}
 		l.remove("version");
-		if (localizedLanguage != null) {
-			for (Map.Entry<String, String> entry : l.entrySet()) {
-				String key = entry.getKey();
-				String value = entry.getValue();
-				if (defaultLanguage.containsKey(key)) {
-					Skript.warning("'" + key + "' is part of the default language file, " +
-						"and can therefore not be modified in a localized language file.");
-				} else {
-					localizedLanguage.put(key, value);
-				}
+		for (Map.Entry<String, String> entry : l.entrySet()) {
+			String key = entry.getKey();
+			String value = entry.getValue();
+			if (defaultLanguage.containsKey(key)) {
+				Skript.warning("'" + key + "' is part of the default language file, " +
+					"and can therefore not be modified in a localized language file.");
+			} else {
+				localizedLanguage.put(key, value);
 			}
-		} else {
-			assert false : addon + "; " + name;
 		}
 		return true;
 	}
@@ -20,12 +20,10 @@ public class Message {
 	private static boolean firstChange = true;
 	static {
 		Language.addListener(() -> {
-			for (final Message m : messages) {
-				synchronized (m) {
-					m.revalidate = true;
-				}
-				if (firstChange && Skript.testing() && !Language.keyExists(m.key)) {
-					Language.missingEntryError(m.key);
+			if (firstChange && Skript.testing()) {
+				for (final Message m : messages) {
+					if (!Language.keyExists(m.key))
+						Language.missingEntryError(m.key);
 				}
 			}
 			firstChange = false;
@@ -35,7 +33,10 @@ public class Message {
 	public final String key;
 	@Nullable
 	private String value;
-	boolean revalidate = true;
+	// the generation of the language tables the value was validated for, see Language#getGeneration()
+	private volatile int validated = -1;
+	// only accessed while holding this message's lock
+	private boolean validating;
 
 	public Message(final String key) {
 		this.key = "" + key.toLowerCase(Locale.ENGLISH);
@@ -88,12 +89,24 @@ public class Message {
 	
 	/**
 	 * Checks whether this message's value has changed and calls {@link #onValueChange()} if neccessary.
+	 * This only takes a lock if the language has changed since the last call of this method.
 	 */
-	protected synchronized void validate() {
-		if (revalidate) {
-			revalidate = false;
-			value = Language.get_(key);
-			onValueChange();
+	protected void validate() {
+		int generation = Language.getGeneration();
+		if (validated == generation)
+			return;
+		synchronized (this) {
+			// onValueChange() may access the value again
+			if (validating || validated == generation)
+				return;
+			validating = true;
+			try {
+				value = Language.get_(key);
+				onValueChange();
+			} finally {
+				validating = false;
+			}
+			validated = generation;
 		}
 	}
 	
@@ -0,0 +1,119 @@
+package ch.njol.skript.localization;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+
+/**
+ * A format string of a message, compiled once when the message's value changes.
+ * <p>
+ * Most messages only use {@code %s}, {@code %1$s}, {@code %%} and {@code %n}. These are split into literal parts and
+ * argument slots, so that formatting the message only concatenates the parts with the arguments. Other format strings
+ * are formatted with {@link String#format(String, Object...)} as before, which is also used whenever an argument
+ * is missing or {@link Formattable}, so that the results and errors are always the same.
+ */
+final class MessageTemplate {
+
+	private final String format;
+
+	// literals[i] comes before the argument at slots[i], the last literal after all arguments
+	private final String @Nullable [] literals;
+	private final int @Nullable [] slots;
+
+	private MessageTemplate(String format, String @Nullable [] literals, int @Nullable [] slots) {
+		this.format = format;
+		this.literals = literals;
+		this.slots = slots;
+	}
+
+	/**
+	 * @param format The format string, as used by {@link String#format(String, Object...)}
+	 * @return The compiled format string
+	 */
+	static MessageTemplate compile(String format) {
+		List<String> literals = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int ordinaryIndex = 0;
+		int length = format.length();
+		for (int i = 0; i < length; i++) {
+			char c = format.charAt(i);
+			if (c != '%') {
+				literal.append(c);
+				continue;
+			}
+			if (i + 1 >= length)
+				return new MessageTemplate(format, null, null);
+			char next = format.charAt(i + 1);
+			if (next == '%') {
+				literal.append('%');
+				i++;
+				continue;
+			}
+			if (next == 'n') {
+				literal.append(System.lineSeparator());
+				i++;
+				continue;
+			}
+			int index;
+			int end;
+			if (next == 's') {
+				index = ordinaryIndex++;
+				end = i + 1;
+			} else {
+				// an explicit index such as '%2$s'
+				end = i + 1;
+				while (end < length && Character.isDigit(format.charAt(end)))
+					end++;
+				if (end == i + 1 || end + 1 >= length || format.charAt(end) != '$' || format.charAt(end + 1) != 's')
+					return new MessageTemplate(format, null, null);
+				try {
+					index = Integer.parseInt(format.substring(i + 1, end)) - 1;
+				} catch (NumberFormatException e) {
+					return new MessageTemplate(format, null, null);
+				}
+				if (index < 0)
+					return new MessageTemplate(format, null, null);
+				end++;
+			}
+			literals.add(literal.toString());
+			literal.setLength(0);
+			slots.add(index);
+			i = end;
+		}
+		literals.add(literal.toString());
+
+		int[] slotArray = new int[slots.size()];
+		for (int i = 0; i < slotArray.length; i++)
+			slotArray[i] = slots.get(i);
+		return new MessageTemplate(format, literals.toArray(new String[0]), slotArray);
+	}
+
+	/**
+	 * Formats this template like {@link String#format(String, Object...)}.
+	 *
+	 * @param args The arguments of the message
+	 * @return The formatted message
+	 * @throws java.util.IllegalFormatException If the format string is invalid or arguments are missing
+	 */
+	String format(Object... args) {
+		String[] literals = this.literals;
+		int[] slots = this.slots;
+		// the arguments are null if a null array is passed
+		if (literals == null || slots == null || args == null)
+			return String.format(format, args);
+		if (slots.length == 0)
+			return literals[0];
+		for (int slot : slots) {
+			if (slot >= args.length || args[slot] instanceof Formattable)
+				return String.format(format, args);
+		}
+		StringBuilder builder = new StringBuilder(format.length() + 16 * slots.length);
+		for (int i = 0; i < slots.length; i++)
+			builder.append(literals[i]).append(args[slots[i]]);
+		return builder.append(literals[slots.length]).toString();
+	}
+
+}
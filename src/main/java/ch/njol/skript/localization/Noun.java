@@ -22,22 +22,45 @@ public class Noun extends Message {
 	public static final int PLURAL = -2, NO_GENDER = -3; // -1 is sometimes used as 'not set'
 	public static final String PLURAL_TOKEN = "x", NO_GENDER_TOKEN = "-";
 	
-	@Nullable
-	private String singular, plural;
-	private int gender = 0;
+	/**
+	 * The forms of a noun in the current language. A new instance is created whenever the noun's value changes,
+	 * and each combination of {@link Language#F_PLURAL}, {@link Language#F_DEFINITE_ARTICLE}
+	 * and {@link Language#F_INDEFINITE_ARTICLE} is only put together once.
+	 */
+	private record Forms(String singular, String plural, int gender, String[] forms) {
+
+		private static final int FLAGS_MASK = Language.F_PLURAL | Language.F_DEFINITE_ARTICLE | Language.F_INDEFINITE_ARTICLE;
+
+		Forms(String singular, String plural, int gender) {
+			this(singular, plural, gender, new String[FLAGS_MASK + 1]);
+		}
+
+		String get(int flags) {
+			flags &= FLAGS_MASK;
+			// strings are immutable, so other threads see either null or the complete form
+			String form = forms[flags];
+			if (form == null)
+				forms[flags] = form = Noun.toString(singular, plural, gender, flags);
+			return form;
+		}
+
+	}
+	
+	private Forms forms;
 	
 	public Noun(String key) {
 		super(key);
+		forms = new Forms(key, key, 0);
 	}
 	
 	@Override
 	protected void onValueChange() {
 		String value = getValue();
 		if (value == null) {
-			plural = singular = key;
-			gender = 0;
+			forms = new Forms(key, key, 0);
 			return;
 		}
+		int gender;
 		int g = value.lastIndexOf('@');
 		if (g != -1) {
 			gender = getGender("" + value.substring(g + 1).trim(), key);
@@ -46,21 +69,24 @@ public class Noun extends Message {
 			gender = 0;
 		}
 		PluralPair p = Noun.parsePlural(value);
-		singular = p.singular;
-		plural = p.plural;
-		if (gender == PLURAL && !Objects.equals(singular, plural))
+		if (gender == PLURAL && !Objects.equals(p.singular, p.plural))
 			Skript.warning("Noun '" + key + "' is of gender 'plural', but has different singular and plural values.");
+		forms = new Forms(p.singular, p.plural, gender);
+	}
+	
+	private Forms forms() {
+		validate();
+		return forms;
 	}
 	
 	@Override
 	public String toString() {
-		validate();
-		return "" + singular;
+		return forms().singular;
 	}
 	
 	public String toString(boolean plural) {
-		validate();
-		return plural ? "" + this.plural : "" + singular;
+		Forms forms = forms();
+		return plural ? forms.plural : forms.singular;
 	}
 	
 	public String withIndefiniteArticle() {
@@ -68,7 +94,7 @@ public class Noun extends Message {
 	}
 	
 	public String getIndefiniteArticle() {
-		validate();
+		int gender = getGender();
 		return gender == PLURAL || gender == NO_GENDER ? "" : "" + indefiniteArticles.get(gender);
 	}
 	
@@ -81,13 +107,12 @@ public class Noun extends Message {
 	}
 	
 	public String getDefiniteArticle() {
-		validate();
+		int gender = getGender();
 		return gender == PLURAL ? definitePluralArticle : gender == NO_GENDER ? "" : "" + definiteArticles.get(gender);
 	}
 	
 	public int getGender() {
-		validate();
-		return gender;
+		return forms().gender;
 	}
 	
 	/**
@@ -127,20 +152,18 @@ public class Noun extends Message {
 	}
 	
 	public String toString(int flags) {
-		validate();
-		StringBuilder b = new StringBuilder();
-		b.append(getArticleWithSpace(flags));
-		b.append((flags & Language.F_PLURAL) != 0 ? plural : singular);
-		return "" + b.toString();
+		return forms().get(flags);
 	}
 	
 	public String withAmount(double amount) {
-		validate();
-		return Skript.toString(amount) + " " + (amount == 1 ? singular : plural);
+		Forms forms = forms();
+		return Skript.toString(amount) + " " + (amount == 1 ? forms.singular : forms.plural);
 	}
 	
 	public String withAmount(double amount, int flags) {
-		validate();
+		Forms forms = forms();
+		String singular = forms.singular, plural = forms.plural;
+		int gender = forms.gender;
 		if (amount == 1) {
 			if (gender == NO_GENDER)
 				return toString((flags & Language.F_PLURAL) != 0);
@@ -160,17 +183,16 @@ public class Noun extends Message {
 	}
 	
 	public String toString(Adjective a, int flags) {
-		validate();
+		Forms forms = forms();
 		StringBuilder b = new StringBuilder();
-		b.append(getArticleWithSpace(flags));
-		b.append(a.toString(gender, flags));
+		b.append(getArticleWithSpace(forms.gender, flags));
+		b.append(a.toString(forms.gender, flags));
 		b.append(" ");
-		b.append((flags & Language.F_PLURAL) != 0 ? plural : singular);
+		b.append((flags & Language.F_PLURAL) != 0 ? forms.plural : forms.singular);
 		return "" + b.toString();
 	}
 	
 	public String toString(Adjective[] adjectives, int flags, boolean and) {
-		validate();
 		if (adjectives.length == 0)
 			return toString(flags);
 		StringBuilder b = new StringBuilder();
@@ -182,13 +204,11 @@ public class Noun extends Message {
 	}
 	
 	public String getSingular() {
-		validate();
-		return "" + singular;
+		return forms().singular;
 	}
 	
 	public String getPlural() {
-		validate();
-		return "" + plural;
+		return forms().plural;
 	}
 	
 	/**
@@ -1,6 +1,7 @@
 package ch.njol.skript.localization;
 
 import ch.njol.util.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An {@link ArgsMessage} that pluralises words following numbers. The plurals have to be in the format <tt>shel¦f¦ves¦</tt> (i.e. use 3 '¦'s).
@@ -9,15 +10,25 @@ import ch.njol.util.StringUtils;
  */
 public class PluralizingArgsMessage extends Message {
 	
+	@Nullable
+	private MessageTemplate template;
+	
 	public PluralizingArgsMessage(String key) {
 		super(key);
 	}
 	
+	@Override
+	protected void onValueChange() {
+		String value = getValue();
+		template = value == null ? null : MessageTemplate.compile(value);
+	}
+	
 	public String toString(Object... args) {
-		String val = getValue();
-		if (val == null)
+		validate();
+		MessageTemplate template = this.template;
+		if (template == null)
 			return key;
-		return format("" + String.format(val, args));
+		return format(template.format(args));
 	}
 	
 	public static String format(String s) {
@@ -1,34 +1,70 @@
 package ch.njol.skript.log;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 import org.jetbrains.annotations.Nullable;
 
 /**
+ * The stack of active log handlers, most recently started first.
+ * 
  * @author Peter Güttinger
  */
 public class HandlerList implements Iterable<LogHandler> {
 	
-	private final LinkedList<LogHandler> list = new LinkedList<>();
+	private LogHandler[] handlers = new LogHandler[8];
+	private int size = 0;
 	
 	public void add(LogHandler h) {
-		list.addFirst(h);
+		if (size == handlers.length)
+			handlers = Arrays.copyOf(handlers, size * 2);
+		handlers[size++] = h;
 	}
 	
 	@Nullable
 	public LogHandler remove() {
-		return list.pop();
+		if (size == 0)
+			throw new NoSuchElementException();
+		LogHandler h = handlers[--size];
+		handlers[size] = null;
+		return h;
+	}
+	
+	/**
+	 * @return The most recently started handler, or null if there is none.
+	 */
+	@Nullable
+	public LogHandler peek() {
+		return size == 0 ? null : handlers[size - 1];
 	}
 	
-	@SuppressWarnings("null")
 	@Override
 	public Iterator<LogHandler> iterator() {
-		return list.iterator();
+		return new Iterator<>() {
+			private int next = size - 1;
+			
+			@Override
+			public boolean hasNext() {
+				return next >= 0;
+			}
+			
+			@Override
+			public LogHandler next() {
+				if (next < 0)
+					throw new NoSuchElementException();
+				return handlers[next--];
+			}
+		};
 	}
 	
 	public boolean contains(LogHandler h) {
-		return list.contains(h);
+		// handlers are usually removed from the top, so search from there
+		for (int i = size - 1; i >= 0; i--) {
+			if (h.equals(handlers[i]))
+				return true;
+		}
+		return false;
 	}
 	
 }
@@ -0,0 +1,71 @@
+package ch.njol.skript.log;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.log.ParseLogHandler.ErrorMessage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An error recorded by {@link ParseLogHandler#error(ErrorMessage, ErrorQuality, Object...)},
+ * which only formats its message once it's needed.
+ * <p>
+ * Lazy entries are only passed between parse log handlers. Before any other handler receives one,
+ * or it is printed, it is replaced by its {@link #materialize() materialized} entry.
+ * Its message is only available through {@link #getMessage()}, which formats it on first access.
+ */
+final class LazyLogEntry extends LogEntry {
+
+	private final ErrorMessage format;
+	private final Object[] args;
+
+	@Nullable
+	private LogEntry materialized;
+
+	private LazyLogEntry(ErrorMessage format, ErrorQuality quality, Object[] args) {
+		super(SkriptLogger.SEVERE, quality.quality(), "", SkriptLogger.getNode(), false);
+		this.format = format;
+		this.args = args;
+	}
+
+	/**
+	 * Creates an error whose message is formatted once it's needed.
+	 * When debugging, the message is formatted immediately, so that the entry knows where it came from.
+	 */
+	static LogEntry of(ErrorMessage format, ErrorQuality quality, Object[] args) {
+		if (Skript.debug())
+			return new LogEntry(SkriptLogger.SEVERE, quality, format.format(args));
+		return new LazyLogEntry(format, quality, args);
+	}
+
+	/**
+	 * @return The regular entry with the formatted message of this entry.
+	 */
+	LogEntry materialize() {
+		LogEntry materialized = this.materialized;
+		if (materialized == null)
+			this.materialized = materialized = new LogEntry(level, quality, format.format(args), node);
+		return materialized;
+	}
+
+	/**
+	 * @return The materialized entry if the given entry is lazy, otherwise the given entry.
+	 */
+	static LogEntry materialize(LogEntry entry) {
+		return entry instanceof LazyLogEntry lazy ? lazy.materialize() : entry;
+	}
+
+	@Override
+	public String getMessage() {
+		return materialize().getMessage();
+	}
+
+	@Override
+	public String toString() {
+		return materialize().toString();
+	}
+
+	@Override
+	public String toFormattedString() {
+		return materialize().toFormattedString();
+	}
+
+}
@@ -15,7 +15,7 @@ public class LogEntry {
 	public final Level level;
 	public final int quality;
 
-	public final String message;
+	private final String message;
 
 	@Nullable
 	public final Node node;
@@ -98,13 +98,13 @@ public class LogEntry {
 	void discarded(String info) {
 		used = true;
 		if (tracked)
-			SkriptLogger.LOGGER.warning(" # LogEntry '" + message + "'" + from + " discarded" + findCaller() + "; " + (new Exception()).getStackTrace()[1] + "; " + info);
+			SkriptLogger.LOGGER.warning(" # LogEntry '" + getMessage() + "'" + from + " discarded" + findCaller() + "; " + (new Exception()).getStackTrace()[1] + "; " + info);
 	}
 
 	void logged() {
 		used = true;
 		if (tracked)
-			SkriptLogger.LOGGER.warning(" # LogEntry '" + message + "'" + from + " logged" + findCaller());
+			SkriptLogger.LOGGER.warning(" # LogEntry '" + getMessage() + "'" + from + " logged" + findCaller());
 	}
 
 	@Override
@@ -9,6 +9,22 @@ import java.util.List;
 import java.util.logging.Level;
 
 public class ParseLogHandler extends LogHandler {
+
+	/**
+	 * The message of an error that is only formatted once it's printed, e.g. a message from the language files.
+	 * Errors of failed attempts while parsing are usually discarded, so recording them with
+	 * {@link #error(ErrorMessage, ErrorQuality, Object...)} or {@link #printError(ErrorMessage, ErrorQuality, Object...)}
+	 * saves formatting messages that are never shown.
+	 * <p>
+	 * Messages should be constants, such as {@code ArgsMessage::toString} method references or lambdas that capture nothing,
+	 * and must not depend on state that changes before the error is printed.
+	 */
+	@FunctionalInterface
+	public interface ErrorMessage {
+
+		String format(Object... args);
+
+	}
 	
 	@Nullable
 	private LogEntry error = null;
@@ -60,6 +76,17 @@ public class ParseLogHandler extends LogHandler {
 	public void error(String error, ErrorQuality quality) {
 		log(new LogEntry(SkriptLogger.SEVERE, quality, error));
 	}
+
+	/**
+	 * Records an error whose message is only formatted if it's printed.
+	 * 
+	 * @param error The message of the error
+	 * @param quality The quality of the error
+	 * @param args The arguments of the message
+	 */
+	public void error(ErrorMessage error, ErrorQuality quality, Object... args) {
+		log(LazyLogEntry.of(error, quality, args));
+	}
 	
 	/**
 	 * Clears all log messages except for the error
@@ -126,6 +153,26 @@ public class ParseLogHandler extends LogHandler {
 			e.discarded("not printed");
 	}
 	
+	/**
+	 * Prints the best error or the given error if no error of at least the given quality has been logged.
+	 * Unlike {@link #printError(String, ErrorQuality)}, the given error's message is only formatted if it's printed.
+	 * 
+	 * @param def Error to log if no error of at least the given quality has been logged
+	 * @param quality The quality of the given error
+	 * @param args The arguments of the given error's message
+	 */
+	public void printError(ErrorMessage def, ErrorQuality quality, Object... args) {
+		printedErrorOrLog = true;
+		stop();
+		LogEntry error = this.error;
+		if (error != null && error.quality >= quality.quality())
+			SkriptLogger.log(error);
+		else
+			SkriptLogger.log(LazyLogEntry.of(def, quality, args));
+		for (LogEntry e : log)
+			e.discarded("not printed");
+	}
+	
 	public int getNumErrors() {
 		return error == null ? 0 : 1;
 	}
@@ -136,7 +183,8 @@ public class ParseLogHandler extends LogHandler {
 	
 	@Nullable
 	public LogEntry getError() {
-		return error;
+		LogEntry error = this.error;
+		return error == null ? null : LazyLogEntry.materialize(error);
 	}
 	
 }
@@ -153,6 +153,9 @@ public abstract class SkriptLogger {
 		if (Skript.testing() && getNode() != null && getNode().debug())
 			System.out.print("---> " + entry.level + "/" + ErrorQuality.get(entry.quality) + ": " + entry + " ::" + LogEntry.findCaller());
 		for (LogHandler h : getHandlers()) {
+			// only parse log handlers keep lazy errors without formatting them
+			if (!(h instanceof ParseLogHandler))
+				entry = LazyLogEntry.materialize(entry);
 			LogResult r = h.log(entry);
 			switch (r) {
 				case CACHED:
@@ -164,6 +167,7 @@ public abstract class SkriptLogger {
 					continue;
 			}
 		}
+		entry = LazyLogEntry.materialize(entry);
 		entry.logged();
 		sendFormatted(Bukkit.getConsoleSender(), "[Skript] " + entry.toFormattedString());
 	}
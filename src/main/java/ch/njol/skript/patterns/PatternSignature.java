@@ -0,0 +1,229 @@
+package ch.njol.skript.patterns;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compact summary of the characters a string contains, used to reject patterns that can't match a string
+ * with a few bitwise operations, before the pattern's elements are matched.
+ * <p>
+ * The signature of a {@link SkriptPattern} describes what every string matching it must contain:
+ * <ul>
+ *     <li>a minimum amount of non-space characters, those of the literals that can't be left out,</li>
+ *     <li>these characters and pairs of adjacent characters, as bitmasks,</li>
+ *     <li>the first and last characters of the literals the pattern starts and ends with, if any.</li>
+ * </ul>
+ * The signature of an input string is computed once with {@link #of(String)}, and compared against the signature
+ * of every pattern the string is matched against with {@link #accepts(PatternSignature)}.
+ * Characters are compared in lower case, like {@link LiteralPatternElement} does.
+ * Only ASCII characters of patterns are taken into account, so that the signature never rejects a match.
+ */
+public final class PatternSignature {
+
+	/**
+	 * The maximum amount of characters of prefixes and suffixes, each character taking 16 bits of a long.
+	 */
+	private static final int AFFIX_LENGTH = 4;
+
+	private final int length;
+	private final long characters;
+	private final long bigrams;
+	private final long prefix, prefixMask;
+	private final long suffix, suffixMask;
+
+	private PatternSignature(int length, long characters, long bigrams, long prefix, long prefixMask, long suffix, long suffixMask) {
+		this.length = length;
+		this.characters = characters;
+		this.bigrams = bigrams;
+		this.prefix = prefix;
+		this.prefixMask = prefixMask;
+		this.suffix = suffix;
+		this.suffixMask = suffixMask;
+	}
+
+	/**
+	 * Computes the signature of an input string, which should be trimmed like the string being matched.
+	 * @param input The string to compute the signature of.
+	 * @return The signature of the string.
+	 */
+	public static PatternSignature of(String input) {
+		int length = 0;
+		long characters = 0, bigrams = 0;
+		char previous = ' ';
+		for (int i = 0; i < input.length(); i++) {
+			char c = Character.toLowerCase(input.charAt(i));
+			if (c != ' ') {
+				length++;
+				characters |= bit(c);
+				if (previous != ' ')
+					bigrams |= bigram(previous, c);
+			}
+			previous = c;
+		}
+
+		long prefix = 0, suffix = 0;
+		for (int i = 0; i < AFFIX_LENGTH; i++) {
+			// Missing characters never equal the ASCII characters of a pattern
+			prefix |= (long) (i < input.length() ? Character.toLowerCase(input.charAt(i)) : Character.MAX_VALUE) << (16 * i);
+			int index = input.length() - 1 - i;
+			suffix |= (long) (index >= 0 ? Character.toLowerCase(input.charAt(index)) : Character.MAX_VALUE) << (16 * i);
+		}
+		return new PatternSignature(length, characters, bigrams, prefix, 0, suffix, 0);
+	}
+
+	/**
+	 * Computes the signature of a compiled pattern.
+	 * @param first The first element of the pattern.
+	 * @return The signature of the pattern.
+	 */
+	static PatternSignature of(PatternElement first) {
+		Requirements requirements = chainRequirements(first);
+
+		long prefix = 0, prefixMask = 0;
+		LiteralPatternElement firstLiteral = firstLiteral(first);
+		if (firstLiteral != null) {
+			String literal = firstLiteral.toString().stripLeading();
+			for (int i = 0; i < Math.min(literal.length(), AFFIX_LENGTH); i++) {
+				char c = literal.charAt(i);
+				if (c == ' ' || c >= 128)
+					break;
+				prefix |= (long) c << (16 * i);
+				prefixMask |= 0xFFFFL << (16 * i);
+			}
+		}
+
+		long suffix = 0, suffixMask = 0;
+		LiteralPatternElement lastLiteral = lastLiteral(first);
+		if (lastLiteral != null) {
+			String literal = lastLiteral.toString().stripTrailing();
+			for (int i = 0; i < Math.min(literal.length(), AFFIX_LENGTH); i++) {
+				char c = literal.charAt(literal.length() - 1 - i);
+				if (c == ' ' || c >= 128)
+					break;
+				suffix |= (long) c << (16 * i);
+				suffixMask |= 0xFFFFL << (16 * i);
+			}
+		}
+
+		return new PatternSignature(requirements.length(), requirements.characters(), requirements.bigrams(),
+			prefix, prefixMask, suffix, suffixMask);
+	}
+
+	/**
+	 * Checks whether a string may match the pattern this is the signature of.
+	 * @param input The signature of the string, from {@link #of(String)}.
+	 * @return False if the string can't match the pattern, true if it may.
+	 */
+	public boolean accepts(PatternSignature input) {
+		return input.length >= length
+			&& (characters & ~input.characters) == 0
+			&& (bigrams & ~input.bigrams) == 0
+			&& (input.prefix & prefixMask) == prefix
+			&& (input.suffix & suffixMask) == suffix;
+	}
+
+	/**
+	 * What every string matching a chain of pattern elements must contain.
+	 * @param length The amount of non-space characters.
+	 * @param characters The bits of the characters.
+	 * @param bigrams The bits of the pairs of adjacent characters.
+	 */
+	private record Requirements(int length, long characters, long bigrams) {
+
+		static final Requirements NONE = new Requirements(0, 0, 0);
+
+		Requirements and(Requirements other) {
+			return new Requirements(length + other.length, characters | other.characters, bigrams | other.bigrams);
+		}
+
+		Requirements or(Requirements other) {
+			return new Requirements(Math.min(length, other.length), characters & other.characters, bigrams & other.bigrams);
+		}
+
+	}
+
+	private static Requirements chainRequirements(@Nullable PatternElement first) {
+		Requirements requirements = Requirements.NONE;
+		for (PatternElement element = first; element != null; element = element.originalNext)
+			requirements = requirements.and(requirements(element));
+		return requirements;
+	}
+
+	private static Requirements requirements(PatternElement element) {
+		if (element instanceof LiteralPatternElement) {
+			String literal = element.toString();
+			int length = 0;
+			long characters = 0, bigrams = 0;
+			char previous = ' ';
+			for (int i = 0; i < literal.length(); i++) {
+				char c = literal.charAt(i);
+				if (c != ' ') {
+					// The literal is lower case, but its characters are compared in lower case again
+					length++;
+					if (c < 128) {
+						characters |= bit(c);
+						if (previous != ' ' && previous < 128)
+							bigrams |= bigram(previous, c);
+					}
+				}
+				previous = c;
+			}
+			return new Requirements(length, characters, bigrams);
+		} else if (element instanceof GroupPatternElement group) {
+			return chainRequirements(group.getPatternElement());
+		} else if (element instanceof ChoicePatternElement choice) {
+			Requirements requirements = null;
+			for (PatternElement option : choice.getPatternElements()) {
+				Requirements optionRequirements = chainRequirements(option);
+				requirements = requirements == null ? optionRequirements : requirements.or(optionRequirements);
+			}
+			return requirements == null ? Requirements.NONE : requirements;
+		}
+		// Optional elements may be left out, and types and regular expressions may match anything
+		return Requirements.NONE;
+	}
+
+	/**
+	 * @return The literal a pattern starts with, if it starts with one.
+	 */
+	private static @Nullable LiteralPatternElement firstLiteral(@Nullable PatternElement element) {
+		// Parse tags don't match any characters
+		while (element instanceof ParseTagPatternElement)
+			element = element.originalNext;
+		if (element instanceof LiteralPatternElement literal)
+			return literal.isEmpty() ? null : literal;
+		if (element instanceof GroupPatternElement group)
+			return firstLiteral(group.getPatternElement());
+		return null;
+	}
+
+	/**
+	 * @return The literal a pattern ends with, if it ends with one.
+	 */
+	private static @Nullable LiteralPatternElement lastLiteral(@Nullable PatternElement element) {
+		if (element == null)
+			return null;
+		while (element.originalNext != null)
+			element = element.originalNext;
+		if (element instanceof LiteralPatternElement literal)
+			return literal.isEmpty() ? null : literal;
+		if (element instanceof GroupPatternElement group)
+			return lastLiteral(group.getPatternElement());
+		return null;
+	}
+
+	/**
+	 * @return The bit of a lower case character. Letters and digits have their own bits.
+	 */
+	private static long bit(char c) {
+		if (c >= 'a' && c <= 'z')
+			return 1L << (c - 'a');
+		if (c >= '0' && c <= '9')
+			return 1L << (26 + c - '0');
+		return 1L << (36 + c % 28);
+	}
+
+	private static long bigram(char first, char second) {
+		return 1L << ((Long.numberOfTrailingZeros(bit(first)) * 31 + Long.numberOfTrailingZeros(bit(second))) & 63);
+	}
+
+}
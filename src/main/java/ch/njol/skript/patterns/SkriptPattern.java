@@ -16,6 +16,7 @@ public class SkriptPattern {
 	private final int expressionAmount;
 
 	private final Keyword[] keywords;
+	private final PatternSignature signature;
 	@Nullable
 	private List<TypePatternElement> types;
 
@@ -23,10 +24,28 @@ public class SkriptPattern {
 		this.first = first;
 		this.expressionAmount = expressionAmount;
 		keywords = Keyword.buildKeywords(first);
+		signature = PatternSignature.of(first);
 	}
 
 	@Nullable
 	public MatchResult match(String expr, int flags, ParseContext parseContext) {
+		return match(expr, flags, parseContext, null);
+	}
+
+	/**
+	 * Matches a string against this pattern, rejecting it early if its signature doesn't fit this pattern's.
+	 * @param expr The string to match.
+	 * @param flags The parse flags.
+	 * @param parseContext The parse context.
+	 * @param signature The {@link PatternSignature#of(String) signature} of the trimmed string,
+	 *                  computed once for all patterns it is matched against, or null to skip the check.
+	 * @return The result of the match, or null if the string doesn't match.
+	 */
+	@Nullable
+	public MatchResult match(String expr, int flags, ParseContext parseContext, @Nullable PatternSignature signature) {
+		if (signature != null && !this.signature.accepts(signature))
+			return null;
+
 		// Matching shortcut
 		String lowerExpr = expr.toLowerCase(Locale.ENGLISH);
 		for (Keyword keyword : keywords) {
@@ -50,6 +69,13 @@ public class SkriptPattern {
 		return match(expr, SkriptParser.ALL_FLAGS, ParseContext.DEFAULT);
 	}
 
+	/**
+	 * @return The signature of the strings that may match this pattern.
+	 */
+	public PatternSignature getSignature() {
+		return signature;
+	}
+
 	@Override
 	public String toString() {
 		return first.toFullString();
@@ -183,7 +183,27 @@ public enum Feature implements Experiment, Documentable {
 		set the equippable component of {_item} to {_component}
 		```
 		""",
-		LifeCycle.EXPERIMENTAL, "equippable components");
+		LifeCycle.EXPERIMENTAL, "equippable components"),
+	ASYNC_SECTIONS("async sections",
+		"Async Sections",
+		"""
+		A new async section runs its code off the main server thread, \
+		and continues with the rest of the trigger on the main server thread afterwards. \
+		This is useful for heavy work that does not need the server, such as sorting \
+		large lists, building texts or doing math.
+		
+		Only syntax that does not access the server can be used within the section. \
+		Like a delay, the rest of the trigger runs at a later time.
+		
+		```
+		async:
+			set {_sorted::*} to sorted {scores::*}
+			set {_text} to join {_sorted::*} with ", "
+		broadcast {_text}
+		```
+		""",
+		LifeCycle.EXPERIMENTAL,
+		"async section[s]");
 
 	private final String displayName;
 	private final String codeName;
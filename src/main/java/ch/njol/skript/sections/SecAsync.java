@@ -0,0 +1,145 @@
+package ch.njol.skript.sections;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.doc.Description;
+import ch.njol.skript.doc.Example;
+import ch.njol.skript.doc.Name;
+import ch.njol.skript.doc.Since;
+import ch.njol.skript.effects.Delay;
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.Section;
+import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.TriggerSection;
+import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.lang.parser.ThreadSafetyData;
+import ch.njol.skript.registrations.Feature;
+import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.util.AsyncExecutor;
+import ch.njol.skript.variables.Variables;
+import ch.njol.util.Kleenean;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.experiment.ExperimentSet;
+import org.skriptlang.skript.lang.experiment.ExperimentalSyntax;
+
+import java.util.List;
+
+@Name("Async Section")
+@Description({
+	"Runs the code within the section off the main server thread. The rest of the trigger continues on the main server thread once the section is done.",
+	"Only syntax that does not access the server can be used within the section, such as math, text manipulation and local variables. "
+		+ "Global variables, loops, delays and function calls are not allowed.",
+	"Values can only be compared, sorted or put into texts if they are known to be texts, numbers, booleans or timespans, "
+		+ "as other values such as entities may belong to the server.",
+	"Like a delay, this means that the rest of the trigger runs at a later time."
+})
+@Example("""
+	set {_names::*} to {names::*}
+	async:
+		set {_sorted::*} to sorted ({_names::*} in lower case)
+		set {_text} to join {_sorted::*} with ", "
+	broadcast {_text}
+	""")
+@Since("2.14")
+public class SecAsync extends Section implements ExperimentalSyntax {
+
+	static {
+		Skript.registerSection(SecAsync.class, "[run] async[hronously]");
+	}
+
+	@Override
+	public boolean init(Expression<?>[] exprs, int matchedPattern, Kleenean isDelayed, ParseResult parseResult, SectionNode sectionNode, List<TriggerItem> triggerItems) {
+		if (sectionNode.isEmpty()) {
+			Skript.error("An async section must contain code.");
+			return false;
+		}
+
+		ParserInstance parser = getParser();
+		parser.setHasDelayBefore(Kleenean.FALSE);
+
+		ThreadSafetyData threadSafety = parser.getData(ThreadSafetyData.class);
+		List<String> previous = threadSafety.startTracking();
+		List<String> unsafeElements;
+		try {
+			loadCode(sectionNode);
+		} finally {
+			unsafeElements = threadSafety.stopTracking(previous);
+		}
+
+		if (parser.getHasDelayBefore().isTrue()) {
+			Skript.error("Delays can't be used within an async section.");
+			return false;
+		}
+		if (!unsafeElements.isEmpty()) {
+			Skript.error("'" + unsafeElements.get(0) + "' can't be used within an async section, as it may access the server.");
+			return false;
+		}
+
+		// The code after this section runs later, just like after a delay
+		parser.setHasDelayBefore(Kleenean.TRUE);
+		return true;
+	}
+
+	@Override
+	public boolean isSatisfiedBy(ExperimentSet experimentSet) {
+		return experimentSet.hasExperiment(Feature.ASYNC_SECTIONS);
+	}
+
+	@Override
+	protected @Nullable TriggerItem walk(Event event) {
+		debug(event, true);
+		TriggerItem first = this.first;
+		if (first == null) // The section failed to load its code
+			return getNext();
+		if (!Skript.getInstance().isEnabled()) // See https://github.com/SkriptLang/Skript/issues/3702
+			return null;
+
+		Object localVars = Variables.removeLocals(event); // Back up local variables
+
+		TriggerItem next = getNext();
+		AsyncExecutor.execute(() -> {
+			Delay.addDelayedEvent(event); // Mark this event as delayed
+			if (localVars != null)
+				Variables.setLocalVariables(event, localVars);
+
+			// An exception ends the trigger, just like on the main thread
+			boolean completed = TriggerItem.walk(first, event);
+
+			if (!completed || next == null)
+				Variables.removeLocals(event);
+			return completed;
+		}, next == null ? null : () -> { // Walk to the next item synchronously
+			Object timing = null;
+			if (SkriptTimings.enabled()) { // getTrigger call is not free, do it only if we must
+				Trigger trigger = getTrigger();
+				if (trigger != null)
+					timing = SkriptTimings.start(trigger.getDebugLabel());
+			}
+
+			TriggerItem.walk(next, event);
+
+			Variables.removeLocals(event); // Clean up local vars, we may be exiting now
+
+			SkriptTimings.stop(timing); // Stop timing if it was even started
+		});
+		return null;
+	}
+
+	@Override
+	public TriggerSection setNext(@Nullable TriggerItem next) {
+		super.setNext(next);
+		// The contents of this section end on their own, the next item is walked on the main thread afterwards
+		if (last != null)
+			last.setNext(null);
+		return this;
+	}
+
+	@Override
+	public String toString(@Nullable Event event, boolean debug) {
+		return "async";
+	}
+
+}
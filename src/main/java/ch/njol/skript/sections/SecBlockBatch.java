@@ -0,0 +1,84 @@
+package ch.njol.skript.sections;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.doc.Description;
+import ch.njol.skript.doc.Example;
+import ch.njol.skript.doc.Name;
+import ch.njol.skript.doc.Since;
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.Section;
+import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.util.BlockBatch;
+import ch.njol.util.Kleenean;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+@Name("Batch Block Changes")
+@Description({
+	"Collects the blocks that are set or deleted within the section and applies all changes once the section is done.",
+	"The changes are grouped by chunk and applied without physics updates. "
+		+ "If there are too many to apply at once, they are spread over the following ticks, "
+		+ "as configured by the 'block batch budget per tick' option of the config.",
+	"Changed blocks keep their previous type until the changes are applied, "
+		+ "so code within the section that reads them again won't see the changes yet. "
+		+ "If the same block is changed more than once, only the last change is applied.",
+	"Delays can't be used within the section."
+})
+@Example("""
+	batch block changes:
+		loop all blocks in radius 30 around player:
+			if loop-block is stone:
+				set loop-block to glass
+	""")
+@Since("2.14")
+public class SecBlockBatch extends Section {
+
+	static {
+		Skript.registerSection(SecBlockBatch.class, "batch [the] block changes");
+	}
+
+	@Override
+	public boolean init(Expression<?>[] exprs, int matchedPattern, Kleenean isDelayed, ParseResult parseResult, SectionNode sectionNode, List<TriggerItem> triggerItems) {
+		if (sectionNode.isEmpty()) {
+			Skript.error("A batch block changes section must contain code.");
+			return false;
+		}
+		ParserInstance parser = getParser();
+		Kleenean previousDelay = parser.getHasDelayBefore();
+		parser.setHasDelayBefore(Kleenean.FALSE);
+		loadCode(sectionNode);
+		if (parser.getHasDelayBefore().isTrue()) {
+			Skript.error("Delays can't be used within a batch block changes section.");
+			return false;
+		}
+		parser.setHasDelayBefore(previousDelay);
+		return true;
+	}
+
+	@Override
+	protected @Nullable TriggerItem walk(Event event) {
+		// don't try to run the section if we are uncertain about its boundaries
+		if (first != null && last != null) {
+			boolean opened = BlockBatch.open();
+			try {
+				last.setNext(null);
+				TriggerItem.walk(first, event);
+			} finally {
+				if (opened)
+					BlockBatch.close();
+			}
+		}
+		return walk(event, false);
+	}
+
+	@Override
+	public String toString(@Nullable Event event, boolean debug) {
+		return "batch block changes";
+	}
+
+}
@@ -52,7 +52,7 @@ import java.util.List;
 		# This code will only be executed if the condition used is met otherwise Skript will not parse this section therefore will not give any errors/info about this section
 	""")
 @Since("1.0")
-public class SecConditional extends Section {
+public class SecConditional extends Section implements ThreadSafeSyntax {
 
 	private static final SkriptPattern THEN_PATTERN = PatternCompiler.compile("then [run]");
 	private static final Patterns<ConditionalType> CONDITIONAL_PATTERNS = new Patterns<>(new Object[][] {
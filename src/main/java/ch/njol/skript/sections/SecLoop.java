@@ -124,6 +124,7 @@ public class SecLoop extends LoopSection {
 
 		guaranteedToLoop = guaranteedToLoop(expression);
 		keyed = KeyedIterableExpression.canIterateWithKeys(expression);
+		initDeferral();
 		loadOptionalCode(sectionNode);
 		this.setInternalNext(this);
 
@@ -132,6 +133,8 @@ public class SecLoop extends LoopSection {
 
 	@Override
 	protected @Nullable TriggerItem walk(Event event) {
+		if (deferIfOverBudget(event))
+			return null;
 		Iterator<?> iter = iteratorMap.get(event);
 		if (iter == null) {
 			if (iterableSingle) {
@@ -174,7 +177,7 @@ public class SecLoop extends LoopSection {
 
 	protected void store(Event event, Object next) {
 		this.current.put(event, next);
-		this.currentLoopCounter.put(event, (currentLoopCounter.getOrDefault(event, 0L)) + 1);
+		incrementLoopCounter(event);
 	}
 
 	@Override
@@ -67,6 +67,7 @@ public class SecWhile extends LoopSection {
 			return false;
 
 		doWhile = parseResult.hasTag("do");
+		initDeferral();
 		loadOptionalCode(sectionNode);
 		super.setNext(this);
 		return true;
@@ -75,8 +76,10 @@ public class SecWhile extends LoopSection {
 	@Nullable
 	@Override
 	protected TriggerItem walk(Event event) {
+		if (deferIfOverBudget(event))
+			return null;
 		if ((doWhile && ranDoWhile.add(event)) || condition.check(event)) {
-			currentLoopCounter.put(event, (currentLoopCounter.getOrDefault(event, 0L)) + 1);
+			incrementLoopCounter(event);
 			return walk(event, true);
 		} else {
 			exit(event);
@@ -0,0 +1,185 @@
+package ch.njol.skript.structures;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.doc.Description;
+import ch.njol.skript.doc.Example;
+import ch.njol.skript.doc.Name;
+import ch.njol.skript.doc.Since;
+import ch.njol.skript.lang.Literal;
+import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.util.ScriptAccounting;
+import ch.njol.skript.util.Timespan;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.entry.EntryContainer;
+import org.skriptlang.skript.lang.entry.EntryValidator;
+import org.skriptlang.skript.lang.script.Script;
+import org.skriptlang.skript.lang.script.ScriptData;
+import org.skriptlang.skript.lang.structure.Structure;
+
+import java.util.Locale;
+
+@Name("Execution Settings")
+@Description("""
+	Place at the top of a script file to configure how the triggers of the script are executed.
+
+	available optional nodes:
+		priority: Either 'normal' or 'low'. When the execution budget set in the config is used up, \
+	triggers of scripts with a low priority are deferred to the next tick, both before they start \
+	and at the start of each loop iteration. Code in and after a loop may thus run at a later time, just like after a delay. \
+	Triggers of events that can be cancelled are never deferred before they start, as they may decide whether their event happens.
+		cpu time per second: The time the script may run for on the main server thread per second, e.g. '10 milliseconds'.
+		variable changes per second: How often the script may change global variables per second.
+		delays per second: How many delays the script may start per second.
+		loop iterations per second: How many loop iterations the script may run per second.
+		when over quota: Either 'throttle' or 'disable'. When the script uses more than one of the above per second, \
+	its triggers are not run for the rest of the second, or not at all until the script is reloaded.
+	""")
+@Example("""
+	execution:
+		priority: low
+	""")
+@Example("""
+	execution:
+		cpu time per second: 5 milliseconds
+		loop iterations per second: 10000
+		when over quota: throttle
+	""")
+@Since("2.14")
+public class StructExecution extends Structure {
+
+	public static final Priority PRIORITY = new Priority(50);
+
+	private static final EntryValidator VALIDATOR = EntryValidator.builder()
+		.addEntry("priority", "normal", true)
+		.addEntry("cpu time per second", null, true)
+		.addEntry("variable changes per second", null, true)
+		.addEntry("delays per second", null, true)
+		.addEntry("loop iterations per second", null, true)
+		.addEntry("when over quota", "throttle", true)
+		.build();
+
+	static {
+		Skript.registerStructure(StructExecution.class, VALIDATOR, "execution [settings]");
+	}
+
+	@Override
+	public boolean init(Literal<?>[] args, int matchedPattern, ParseResult parseResult, @Nullable EntryContainer entryContainer) {
+		// noinspection ConstantConditions - entry container cannot be null as this structure is not simple
+		String priority = entryContainer.get("priority", String.class, true);
+		ExecutionData data = getParser().getCurrentScript().getData(ExecutionData.class, ExecutionData::new);
+		switch (priority.toLowerCase(Locale.ENGLISH)) {
+			case "low" -> data.lowPriority = true;
+			case "normal" -> data.lowPriority = false;
+			default -> {
+				Skript.error("'" + priority + "' is not a valid execution priority. Use 'normal' or 'low'.");
+				return false;
+			}
+		}
+
+		long cpuNanos = 0;
+		String cpuTime = entryContainer.getOptional("cpu time per second", String.class, false);
+		if (cpuTime != null) {
+			Timespan timespan = Timespan.parse(cpuTime);
+			if (timespan == null || timespan.isInfinite()) {
+				Skript.error("'" + cpuTime + "' is not a valid CPU time per second, e.g. '10 milliseconds'.");
+				return false;
+			}
+			cpuNanos = timespan.getAs(Timespan.TimePeriod.MILLISECOND) * 1_000_000L;
+		}
+		long variableWrites = parseLimit(entryContainer, "variable changes per second");
+		long delays = parseLimit(entryContainer, "delays per second");
+		long loopIterations = parseLimit(entryContainer, "loop iterations per second");
+		if (variableWrites < 0 || delays < 0 || loopIterations < 0)
+			return false;
+
+		String action = entryContainer.get("when over quota", String.class, true);
+		boolean disable;
+		switch (action.toLowerCase(Locale.ENGLISH)) {
+			case "throttle" -> disable = false;
+			case "disable" -> disable = true;
+			default -> {
+				Skript.error("'" + action + "' is not a valid action when a quota is exceeded. Use 'throttle' or 'disable'.");
+				return false;
+			}
+		}
+		data.quota = new ScriptAccounting.Quota(cpuNanos, variableWrites, delays, loopIterations, disable);
+		return true;
+	}
+
+	/**
+	 * @return The limit of the entry, 0 if the entry is missing, or -1 if it is invalid.
+	 */
+	private static long parseLimit(EntryContainer entryContainer, String key) {
+		String value = entryContainer.getOptional(key, String.class, false);
+		if (value == null)
+			return 0;
+		try {
+			long limit = Long.parseLong(value.trim());
+			if (limit > 0)
+				return limit;
+		} catch (NumberFormatException ignored) { }
+		Skript.error("'" + value + "' is not a valid amount of " + key + ". It must be a positive whole number.");
+		return -1;
+	}
+
+	@Override
+	public boolean load() {
+		Script script = getParser().getCurrentScript();
+		ExecutionData data = script.getData(ExecutionData.class);
+		if (data != null)
+			ScriptAccounting.setQuota(script, data.quota);
+		return true;
+	}
+
+	@Override
+	public void unload() {
+		Script script = getParser().getCurrentScript();
+		ScriptAccounting.setQuota(script, null);
+		script.removeData(ExecutionData.class);
+	}
+
+	@Override
+	public Priority getPriority() {
+		return PRIORITY;
+	}
+
+	@Override
+	public String toString(@Nullable Event event, boolean debug) {
+		return "execution settings";
+	}
+
+	/**
+	 * Returns whether the triggers of the given script may be deferred when the execution budget is used up.
+	 * @param script The script to check, if any.
+	 * @return Whether the script has a low execution priority.
+	 */
+	public static boolean isLowPriority(@Nullable Script script) {
+		if (script == null)
+			return false;
+		ExecutionData data = script.getData(ExecutionData.class);
+		return data != null && data.lowPriority;
+	}
+
+	public static final class ExecutionData implements ScriptData {
+
+		private boolean lowPriority;
+		private ScriptAccounting.@Nullable Quota quota;
+
+		/**
+		 * @return Whether the triggers of the script may be deferred when the execution budget is used up.
+		 */
+		public boolean isLowPriority() {
+			return lowPriority;
+		}
+
+		/**
+		 * @return The resources the script may use per second, or null if they aren't limited.
+		 */
+		public ScriptAccounting.@Nullable Quota getQuota() {
+			return quota;
+		}
+
+	}
+
+}
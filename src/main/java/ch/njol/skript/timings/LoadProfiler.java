@@ -0,0 +1,352 @@
+package ch.njol.skript.timings;
+
+import ch.njol.skript.config.Node;
+import ch.njol.skript.lang.parser.ParsingStack;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.script.Script;
+import org.skriptlang.skript.registration.SyntaxInfo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A profiler recording how long loading scripts takes, per script, structure, line and syntax.
+ * <p>
+ * While loading, every thread keeps a stack of frames: the script, the structure, the lines of the structure,
+ * and the syntax elements being tried for a line, which are pushed and popped along with the {@link ParsingStack}.
+ * The time of each frame is recorded into a tree of the frames' names, from which a report sorted by time
+ * and a collapsed stack file for flame graphs are created, see {@link #dump(Path, Path)}.
+ * <p>
+ * For every line, the parser tries many syntax elements that do not match. To keep the tree small,
+ * syntax elements are only added to it if they were parsed, and the time of failed attempts counts towards
+ * the line or syntax element they were tried for. The attempts of every syntax element are additionally
+ * counted and timed separately.
+ * <p>
+ * Every {@code enter} method returns a mark, which must be passed to {@link #exit(int)} once the frame is done.
+ * Exiting pops the frames above the mark too, so that frames left by exceptions are cleaned up by the frames below.
+ */
+public final class LoadProfiler {
+
+	private static final int MAX_NAME_LENGTH = 100;
+
+	private static volatile boolean enabled = false;
+
+	private static final FrameNode ROOT = new FrameNode("", Kind.SCRIPT);
+	private static final Map<SyntaxInfo<?>, SyntaxStats> SYNTAXES = new ConcurrentHashMap<>();
+	private static final ThreadLocal<FrameStack> STACKS = ThreadLocal.withInitial(FrameStack::new);
+
+	private static volatile long since = System.currentTimeMillis();
+
+	private LoadProfiler() {}
+
+	/**
+	 * @return Whether the profiler is recording.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param enabled Whether the profiler should record.
+	 */
+	public static void setEnabled(boolean enabled) {
+		LoadProfiler.enabled = enabled;
+	}
+
+	/**
+	 * Starts a frame for loading a script.
+	 * @param script The script being loaded.
+	 * @return The mark to pass to {@link #exit(int)}, or -1 if the profiler is disabled.
+	 */
+	public static int enterScript(Script script) {
+		return enabled ? STACKS.get().push(Kind.SCRIPT, name(script.getConfig().getFileName()), null) : -1;
+	}
+
+	/**
+	 * Starts a frame for parsing or loading a structure.
+	 * @param node The node of the structure.
+	 * @return The mark to pass to {@link #exit(int)}, or -1 if the profiler is disabled.
+	 */
+	public static int enterStructure(Node node) {
+		return enabled ? STACKS.get().push(Kind.STRUCTURE, name(node), null) : -1;
+	}
+
+	/**
+	 * Starts a frame for parsing a line, including its section.
+	 * Lines are only recorded while a script is being loaded, and not e.g. when parsed by an effect.
+	 * @param node The node of the line.
+	 * @return The mark to pass to {@link #exit(int)}, or -1 if the profiler is disabled.
+	 */
+	public static int enterLine(Node node) {
+		return enabled ? STACKS.get().pushNested(Kind.LINE, name(node), null) : -1;
+	}
+
+	/**
+	 * Starts a frame for trying to parse a syntax element with all of its patterns.
+	 * Syntax elements are only recorded while a script is being loaded, and not e.g. when parsed by an effect.
+	 * @param info The syntax element.
+	 * @return The mark to pass to {@link #exitSyntax(int, boolean)}, or -1 if the profiler is disabled.
+	 */
+	public static int enterSyntax(SyntaxInfo<?> info) {
+		return enabled ? STACKS.get().pushNested(Kind.SYNTAX, null, info) : -1;
+	}
+
+	/**
+	 * Ends a frame and all frames started after it.
+	 * @param mark The mark returned when the frame was started.
+	 */
+	public static void exit(int mark) {
+		if (mark >= 0)
+			STACKS.get().pop(mark, true);
+	}
+
+	/**
+	 * Ends a syntax frame and all frames started after it.
+	 * @param mark The mark returned by {@link #enterSyntax(SyntaxInfo)}.
+	 * @param success Whether the syntax element was parsed.
+	 */
+	public static void exitSyntax(int mark, boolean success) {
+		if (mark >= 0)
+			STACKS.get().pop(mark, success);
+	}
+
+	/**
+	 * @return Whether anything has been recorded since the last {@link #reset()}.
+	 */
+	public static boolean hasRecorded() {
+		return !ROOT.children.isEmpty();
+	}
+
+	/**
+	 * Discards everything that has been recorded.
+	 */
+	public static void reset() {
+		ROOT.children.clear();
+		SYNTAXES.clear();
+		since = System.currentTimeMillis();
+	}
+
+	/**
+	 * Writes everything that has been recorded to a report sorted by time and a collapsed stack file.
+	 * Each line of the collapsed stack file contains the frames of a stack separated by semicolons,
+	 * followed by the time spent in the last frame in microseconds, which tools such as flamegraph.pl
+	 * and speedscope turn into flame graphs.
+	 * @param report The file to write the report to.
+	 * @param collapsed The file to write the collapsed stacks to.
+	 * @throws IOException If a file could not be written.
+	 */
+	public static void dump(Path report, Path collapsed) throws IOException {
+		List<Entry> scripts = new ArrayList<>();
+		List<Entry> structures = new ArrayList<>();
+		List<Entry> lines = new ArrayList<>();
+		List<String> stacks = new ArrayList<>();
+		for (FrameNode script : ROOT.children.values()) {
+			scripts.add(new Entry(script.name, script.totalNanos.sum()));
+			collect(script, script.name, script.name, structures, lines, stacks);
+		}
+		List<SyntaxEntry> syntaxes = new ArrayList<>(SYNTAXES.size());
+		SYNTAXES.forEach((info, stats) -> syntaxes.add(new SyntaxEntry(info.type().getName() + " (" + info.origin().name() + ")",
+			stats.attempts.sum(), stats.successes.sum(), stats.totalNanos.sum(), stats.selfNanos.sum())));
+
+		StringBuilder builder = new StringBuilder();
+		long total = scripts.stream().mapToLong(Entry::totalNanos).sum();
+		builder.append("Skript load profile, recorded over ").append((System.currentTimeMillis() - since) / 1000)
+			.append(" seconds, ").append(millis(total)).append(" spent loading scripts\n");
+		appendEntries(builder, "Scripts", scripts);
+		appendEntries(builder, "Structures (all loading stages)", structures);
+		appendEntries(builder, "Lines (including the lines of their sections)", lines);
+		builder.append("\nSyntax elements (attempts, parsed, total time, time excluding nested syntax elements):\n");
+		syntaxes.sort(Comparator.comparingLong(SyntaxEntry::selfNanos).reversed());
+		for (SyntaxEntry entry : syntaxes) {
+			builder.append(String.format(Locale.ENGLISH, "%10d %8d %14s %14s  %s%n",
+				entry.attempts(), entry.successes(), millis(entry.totalNanos()), millis(entry.selfNanos()), entry.name()));
+		}
+
+		for (Path file : new Path[]{report, collapsed}) {
+			Path parent = file.getParent();
+			if (parent != null)
+				Files.createDirectories(parent);
+		}
+		Files.writeString(report, builder);
+		Files.write(collapsed, stacks);
+	}
+
+	private static void collect(FrameNode node, String script, String stack,
+								List<Entry> structures, List<Entry> lines, List<String> stacks) {
+		long selfMicros = node.selfNanos.sum() / 1000;
+		if (selfMicros > 0)
+			stacks.add(stack + " " + selfMicros);
+		for (FrameNode child : node.children.values()) {
+			if (child.kind == Kind.STRUCTURE) {
+				structures.add(new Entry(script + ", " + child.name, child.totalNanos.sum()));
+			} else if (child.kind == Kind.LINE) {
+				lines.add(new Entry(script + ", " + child.name, child.totalNanos.sum()));
+			}
+			collect(child, script, stack + ";" + child.name, structures, lines, stacks);
+		}
+	}
+
+	private static void appendEntries(StringBuilder builder, String title, List<Entry> entries) {
+		builder.append('\n').append(title).append(":\n");
+		entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+		for (Entry entry : entries)
+			builder.append(String.format(Locale.ENGLISH, "%14s  %s%n", millis(entry.totalNanos()), entry.name()));
+	}
+
+	private static String millis(long nanos) {
+		return String.format(Locale.ENGLISH, "%.3f ms", nanos / 1_000_000.0);
+	}
+
+	private static String name(Node node) {
+		String key = node.getKey();
+		return name("line " + node.getLine() + ": " + (key == null ? "" : key.trim()));
+	}
+
+	/**
+	 * Makes a name usable as a frame of a collapsed stack.
+	 */
+	private static String name(String name) {
+		name = name.replace(';', ',');
+		return name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH - 3) + "..." : name;
+	}
+
+	private record Entry(String name, long totalNanos) { }
+
+	private record SyntaxEntry(String name, long attempts, long successes, long totalNanos, long selfNanos) { }
+
+	private enum Kind {
+		SCRIPT, STRUCTURE, LINE, SYNTAX
+	}
+
+	/**
+	 * A node of the tree of recorded frames, identified by its name among the children of its parent.
+	 */
+	private static final class FrameNode {
+
+		private final String name;
+		private final Kind kind;
+		private final Map<String, FrameNode> children = new ConcurrentHashMap<>();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAdder selfNanos = new LongAdder();
+
+		FrameNode(String name, Kind kind) {
+			this.name = name;
+			this.kind = kind;
+		}
+
+		FrameNode child(String name, Kind kind) {
+			return children.computeIfAbsent(name, key -> new FrameNode(name, kind));
+		}
+
+	}
+
+	private static final class SyntaxStats {
+
+		private final LongAdder attempts = new LongAdder();
+		private final LongAdder successes = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAdder selfNanos = new LongAdder();
+
+	}
+
+	private static final class Frame {
+
+		Kind kind;
+		@Nullable String name;
+		@Nullable SyntaxInfo<?> info;
+		long start;
+		// The time of all frames started in this frame, and of those that were added to the tree
+		long childNanos, recordedChildNanos;
+		@Nullable FrameNode node;
+
+	}
+
+	/**
+	 * The frames of a thread. Frame objects are reused, so that only new nodes of the tree cause allocations.
+	 */
+	private static final class FrameStack {
+
+		private Frame[] frames = new Frame[32];
+		private int depth = 0;
+
+		int push(Kind kind, @Nullable String name, @Nullable SyntaxInfo<?> info) {
+			if (depth == frames.length)
+				frames = Arrays.copyOf(frames, depth * 2);
+			Frame frame = frames[depth];
+			if (frame == null)
+				frame = frames[depth] = new Frame();
+			frame.kind = kind;
+			frame.name = name;
+			frame.info = info;
+			frame.childNanos = 0;
+			frame.recordedChildNanos = 0;
+			frame.node = null;
+			frame.start = System.nanoTime();
+			return depth++;
+		}
+
+		int pushNested(Kind kind, @Nullable String name, @Nullable SyntaxInfo<?> info) {
+			return depth == 0 ? -1 : push(kind, name, info);
+		}
+
+		void pop(int mark, boolean success) {
+			long now = System.nanoTime();
+			while (depth > mark) {
+				int index = --depth;
+				Frame frame = frames[index];
+				// Frames above the mark were left by an exception and did not succeed
+				boolean parsed = index == mark && success;
+				long elapsed = now - frame.start;
+				Frame parent = index > 0 ? frames[index - 1] : null;
+				if (parent != null)
+					parent.childNanos += elapsed;
+
+				if (frame.kind == Kind.SYNTAX) {
+					SyntaxStats stats = SYNTAXES.computeIfAbsent(frame.info, key -> new SyntaxStats());
+					stats.attempts.increment();
+					if (parsed)
+						stats.successes.increment();
+					stats.totalNanos.add(elapsed);
+					stats.selfNanos.add(elapsed - frame.childNanos);
+				}
+
+				if (frame.kind != Kind.SYNTAX || parsed || frame.node != null) {
+					FrameNode node = node(index);
+					node.totalNanos.add(elapsed);
+					node.selfNanos.add(elapsed - frame.recordedChildNanos);
+					if (parent != null)
+						parent.recordedChildNanos += elapsed;
+				}
+
+				frame.name = null;
+				frame.info = null;
+				frame.node = null;
+			}
+		}
+
+		private FrameNode node(int index) {
+			Frame frame = frames[index];
+			if (frame.node == null) {
+				FrameNode parent = index == 0 ? ROOT : node(index - 1);
+				if (frame.name == null) {
+					assert frame.info != null;
+					Class<?> type = frame.info.type();
+					frame.name = name(type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName());
+				}
+				frame.node = parent.child(frame.name, frame.kind);
+			}
+			return frame.node;
+		}
+
+	}
+
+}
@@ -0,0 +1,423 @@
+package ch.njol.skript.timings;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.variables.Variables;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of live runtime metrics, which can be exported in the
+ * <a href="https://openmetrics.io/">OpenMetrics</a> text format through a local HTTP endpoint
+ * and are shown by {@code /skript metrics}.
+ * <p>
+ * Metrics are grouped by what they describe: triggers (executions and their duration per event type),
+ * variables (reads, writes and changes waiting to be saved), delays (continuations waiting to be resumed)
+ * and scripts (the time each stage of loading a script took).
+ * Values on hot paths are recorded into {@link LongAdder}s and {@link SkriptProfiler.Stats histograms},
+ * and only while metrics are enabled. Gauges are computed when the metrics are read.
+ * Addons may add their own gauges with {@link #registerGauge(String, String, LongSupplier)}.
+ */
+public final class RuntimeMetrics {
+
+	private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+	// Buckets of shorter durations are merged into the first exported bucket
+	private static final int FIRST_BUCKET = 9; // About one microsecond
+
+	/**
+	 * The stages of loading a script, in the order they are run.
+	 */
+	public static final String[] LOAD_STAGES = {"parse", "preload", "load", "postload"};
+
+	private static volatile boolean enabled = false;
+
+	private static final Map<Class<? extends Event>, SkriptProfiler.Stats> TRIGGERS = new ConcurrentHashMap<>();
+
+	private static final LongAdder GLOBAL_READS = new LongAdder();
+	private static final LongAdder LOCAL_READS = new LongAdder();
+	private static final LongAdder GLOBAL_WRITES = new LongAdder();
+	private static final LongAdder LOCAL_WRITES = new LongAdder();
+
+	// Always counted, as a gauge must be correct even if metrics are enabled later on
+	private static final LongAdder PENDING_DELAYS = new LongAdder();
+
+	// Script file names to the nanoseconds each stage of their last load took
+	private static final Map<String, long[]> SCRIPT_LOADS = new ConcurrentHashMap<>();
+
+	private static final Map<String, Gauge> GAUGES = new ConcurrentHashMap<>();
+
+	private static volatile long since = System.currentTimeMillis();
+
+	private static @Nullable HttpServer server;
+	private static @Nullable InetSocketAddress serverAddress;
+
+	private RuntimeMetrics() {}
+
+	/**
+	 * @return Whether metrics are recorded.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param enabled Whether metrics should be recorded.
+	 */
+	public static void setEnabled(boolean enabled) {
+		RuntimeMetrics.enabled = enabled;
+	}
+
+	/**
+	 * @return The time in milliseconds since the epoch at which recording started.
+	 */
+	public static long getSince() {
+		return since;
+	}
+
+	/**
+	 * Discards all recorded trigger executions and variable accesses.
+	 */
+	public static void reset() {
+		TRIGGERS.clear();
+		GLOBAL_READS.reset();
+		LOCAL_READS.reset();
+		GLOBAL_WRITES.reset();
+		LOCAL_WRITES.reset();
+		since = System.currentTimeMillis();
+	}
+
+	// ================ RECORDING ================
+
+	/**
+	 * @return The start of a trigger execution, to be passed to {@link #recordTrigger(Event, long)},
+	 * or 0 if metrics are disabled.
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records an execution of a trigger.
+	 * @param event The event the trigger was executed for.
+	 * @param start The value returned by {@link #start()} before the execution.
+	 */
+	public static void recordTrigger(Event event, long start) {
+		if (start == 0)
+			return;
+		long nanos = System.nanoTime() - start;
+		SkriptProfiler.Stats stats = TRIGGERS.get(event.getClass());
+		if (stats == null)
+			stats = TRIGGERS.computeIfAbsent(event.getClass(), key -> new SkriptProfiler.Stats());
+		stats.record(nanos);
+	}
+
+	/**
+	 * Records a read of a variable.
+	 * @param local Whether the variable is local.
+	 */
+	public static void recordVariableRead(boolean local) {
+		if (enabled)
+			(local ? LOCAL_READS : GLOBAL_READS).increment();
+	}
+
+	/**
+	 * Records a change of a variable.
+	 * @param local Whether the variable is local.
+	 */
+	public static void recordVariableWrite(boolean local) {
+		if (enabled)
+			(local ? LOCAL_WRITES : GLOBAL_WRITES).increment();
+	}
+
+	/**
+	 * Records that a delayed continuation of a trigger has been scheduled.
+	 * Must be followed by exactly one call to {@link #delayResumed()}.
+	 */
+	public static void delayScheduled() {
+		PENDING_DELAYS.increment();
+	}
+
+	/**
+	 * Records that a delayed continuation of a trigger is being resumed.
+	 */
+	public static void delayResumed() {
+		PENDING_DELAYS.decrement();
+	}
+
+	/**
+	 * Records how long each stage of loading a script took. Replaces the times of its previous load.
+	 * @param script The file name of the script.
+	 * @param stageNanos The nanoseconds each of the {@link #LOAD_STAGES} took.
+	 */
+	public static void recordScriptLoad(String script, long[] stageNanos) {
+		SCRIPT_LOADS.put(script, stageNanos.clone());
+	}
+
+	/**
+	 * Discards the load times of a script, e.g. because it has been unloaded.
+	 * @param script The file name of the script.
+	 */
+	public static void removeScript(String script) {
+		SCRIPT_LOADS.remove(script);
+	}
+
+	/**
+	 * Registers a gauge, whose value is computed every time the metrics are read.
+	 * @param name The name of the metric, e.g. {@code myaddon_queue_size}.
+	 *             Must only consist of letters, digits and underscores.
+	 * @param help A short description of the metric.
+	 * @param value Computes the value of the gauge. Must be thread-safe.
+	 */
+	public static void registerGauge(String name, String help, LongSupplier value) {
+		if (!name.matches("[a-zA-Z_][a-zA-Z0-9_]*"))
+			throw new IllegalArgumentException("Invalid metric name: " + name);
+		GAUGES.put(name, new Gauge(help, value));
+	}
+
+	/**
+	 * @param name The name of a gauge registered with {@link #registerGauge(String, String, LongSupplier)}.
+	 */
+	public static void unregisterGauge(String name) {
+		GAUGES.remove(name);
+	}
+
+	// ================ READING ================
+
+	/**
+	 * @param limit The maximum amount of entries to return.
+	 * @return The event types whose triggers took the longest in total, in descending order.
+	 */
+	public static List<SkriptProfiler.Entry> getTriggers(int limit) {
+		List<SkriptProfiler.Entry> entries = new ArrayList<>(TRIGGERS.size());
+		TRIGGERS.forEach((event, stats) -> entries.add(new SkriptProfiler.Entry(event.getSimpleName(), stats)));
+		entries.sort(Comparator.comparingLong(SkriptProfiler.Entry::totalNanos).reversed());
+		return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+	}
+
+	/**
+	 * @param local Whether to return the reads of local variables.
+	 * @return The amount of variable reads.
+	 */
+	public static long getVariableReads(boolean local) {
+		return (local ? LOCAL_READS : GLOBAL_READS).sum();
+	}
+
+	/**
+	 * @param local Whether to return the changes of local variables.
+	 * @return The amount of variable changes.
+	 */
+	public static long getVariableWrites(boolean local) {
+		return (local ? LOCAL_WRITES : GLOBAL_WRITES).sum();
+	}
+
+	/**
+	 * @return The amount of delayed continuations of triggers waiting to be resumed.
+	 */
+	public static long getPendingDelays() {
+		return Math.max(PENDING_DELAYS.sum(), 0);
+	}
+
+	/**
+	 * @param limit The maximum amount of entries to return.
+	 * @return The file names of the scripts that took the longest to load,
+	 * to the nanoseconds each of the {@link #LOAD_STAGES} took, in descending order of their total.
+	 */
+	public static List<Map.Entry<String, long[]>> getScriptLoads(int limit) {
+		List<Map.Entry<String, long[]>> entries = new ArrayList<>(SCRIPT_LOADS.size());
+		SCRIPT_LOADS.forEach((script, nanos) -> entries.add(Map.entry(script, nanos.clone())));
+		entries.sort(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> sum(entry.getValue())).reversed());
+		return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+	}
+
+	/**
+	 * @param values The values to add up.
+	 * @return The sum of the values.
+	 */
+	public static long sum(long[] values) {
+		long sum = 0;
+		for (long value : values)
+			sum += value;
+		return sum;
+	}
+
+	/**
+	 * @return All metrics in the OpenMetrics text format.
+	 */
+	public static String toOpenMetrics() {
+		StringBuilder builder = new StringBuilder(4096);
+
+		family(builder, "skript_trigger_duration_seconds", "histogram",
+			"How long triggers took to run until their first delay, by event type.");
+		TRIGGERS.forEach((event, stats) -> histogram(builder, "skript_trigger_duration_seconds",
+			"event=\"" + escape(event.getSimpleName()) + "\"", stats));
+
+		family(builder, "skript_variable_reads", "counter", "How often variables were read.");
+		sample(builder, "skript_variable_reads_total", "scope=\"global\"", GLOBAL_READS.sum());
+		sample(builder, "skript_variable_reads_total", "scope=\"local\"", LOCAL_READS.sum());
+		family(builder, "skript_variable_writes", "counter", "How often variables were changed.");
+		sample(builder, "skript_variable_writes_total", "scope=\"global\"", GLOBAL_WRITES.sum());
+		sample(builder, "skript_variable_writes_total", "scope=\"local\"", LOCAL_WRITES.sum());
+
+		family(builder, "skript_variable_save_queue", "gauge",
+			"The amount of changed global variables waiting to be serialized.");
+		sample(builder, "skript_variable_save_queue", null, Variables.getSaveQueueSize());
+		family(builder, "skript_variable_storage_queue", "gauge",
+			"The amount of serialized variables waiting to be written, by database.");
+		Variables.getStorageQueueSizes().forEach((database, size) ->
+			sample(builder, "skript_variable_storage_queue", "database=\"" + escape(database) + "\"", size));
+
+		family(builder, "skript_delays_pending", "gauge", "The amount of delayed triggers waiting to continue.");
+		sample(builder, "skript_delays_pending", null, getPendingDelays());
+
+		family(builder, "skript_script_load_seconds", "gauge", "How long each stage of the last load of a script took.");
+		SCRIPT_LOADS.forEach((script, nanos) -> {
+			for (int i = 0; i < LOAD_STAGES.length; i++) {
+				sample(builder, "skript_script_load_seconds",
+					"script=\"" + escape(script) + "\",stage=\"" + LOAD_STAGES[i] + "\"", seconds(nanos[i]));
+			}
+		});
+
+		GAUGES.forEach((name, gauge) -> {
+			long value;
+			try {
+				value = gauge.value().getAsLong();
+			} catch (RuntimeException e) {
+				return;
+			}
+			family(builder, name, "gauge", gauge.help());
+			sample(builder, name, null, value);
+		});
+
+		return builder.append("# EOF\n").toString();
+	}
+
+	private static void family(StringBuilder builder, String name, String type, String help) {
+		builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		builder.append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+	}
+
+	private static void sample(StringBuilder builder, String name, @Nullable String labels, Object value) {
+		builder.append(name);
+		if (labels != null)
+			builder.append('{').append(labels).append('}');
+		builder.append(' ').append(value).append('\n');
+	}
+
+	private static void histogram(StringBuilder builder, String name, String labels, SkriptProfiler.Stats stats) {
+		long[] histogram = stats.getHistogram();
+		long cumulative = 0;
+		for (int i = 0; i < histogram.length - 1; i++) {
+			cumulative += histogram[i];
+			if (i < FIRST_BUCKET)
+				continue;
+			// Bucket i holds durations of less than 2^(i+1) nanoseconds
+			String bound = seconds((1L << (i + 1)) - 1);
+			sample(builder, name + "_bucket", labels + ",le=\"" + bound + "\"", cumulative);
+		}
+		// The count is taken from the histogram, as it may be updated while it is being read
+		long count = cumulative + histogram[histogram.length - 1];
+		sample(builder, name + "_bucket", labels + ",le=\"+Inf\"", count);
+		sample(builder, name + "_count", labels, count);
+		sample(builder, name + "_sum", labels, seconds(stats.getTotalNanos()));
+	}
+
+	private static String seconds(long nanos) {
+		return Double.toString(nanos / 1_000_000_000.0);
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	// ================ ENDPOINT ================
+
+	/**
+	 * Serves the metrics at {@code /metrics} on the given address, replacing the endpoint that is already running.
+	 * Does nothing if the endpoint is already running on the same address.
+	 * @param address The address to bind to, e.g. {@code 127.0.0.1} to only allow local connections.
+	 * @param port The port to bind to, or 0 to stop serving the metrics.
+	 */
+	public static synchronized void startServer(String address, int port) {
+		InetSocketAddress socketAddress = port > 0 ? new InetSocketAddress(address, port) : null;
+		if (server != null) {
+			if (socketAddress != null && socketAddress.equals(serverAddress))
+				return;
+			stopServer();
+		}
+		if (socketAddress == null)
+			return;
+		if (socketAddress.isUnresolved()) {
+			Skript.error("Could not serve the metrics: the address '" + address + "' could not be resolved");
+			return;
+		}
+		try {
+			HttpServer server = HttpServer.create(socketAddress, 0);
+			server.createContext("/metrics", RuntimeMetrics::handle);
+			server.start();
+			RuntimeMetrics.server = server;
+			serverAddress = socketAddress;
+		} catch (IOException e) {
+			Skript.error("Could not serve the metrics on " + address + ":" + port + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Stops serving the metrics.
+	 */
+	public static synchronized void stopServer() {
+		if (server == null)
+			return;
+		server.stop(0);
+		server = null;
+		serverAddress = null;
+	}
+
+	/**
+	 * @return The URL the metrics are served at, or null if they aren't served.
+	 */
+	public static synchronized @Nullable String getServerUrl() {
+		if (server == null || serverAddress == null)
+			return null;
+		return String.format(Locale.ENGLISH, "http://%s:%d/metrics",
+			serverAddress.getHostString(), server.getAddress().getPort());
+	}
+
+	private static void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String method = exchange.getRequestMethod();
+			if (!method.equals("GET") && !method.equals("HEAD")) {
+				exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			byte[] body = toOpenMetrics().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			if (method.equals("HEAD")) {
+				exchange.sendResponseHeaders(200, -1);
+				return;
+			}
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		}
+	}
+
+	private record Gauge(String help, LongSupplier value) { }
+
+}
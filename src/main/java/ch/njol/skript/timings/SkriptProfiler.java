@@ -0,0 +1,308 @@
+package ch.njol.skript.timings;
+
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.function.Function;
+import com.google.common.collect.MapMaker;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lightweight profiler recording how often triggers, functions and trigger items run and how long they take.
+ * <p>
+ * Trigger and function executions are recorded every time while the profiler is enabled.
+ * As trigger items run far more often, only a sample of item walks records the time of each of their items.
+ * All values are recorded into {@link LongAdder}s, so that threads recording at the same time do not contend.
+ * <p>
+ * Triggers are identified by their {@link Trigger#getDebugLabel() debug label}, so that the time spent
+ * after a delay is attributed to the same trigger.
+ */
+public final class SkriptProfiler {
+
+	private static volatile boolean enabled = false;
+	private static volatile int itemSampleInterval = 100;
+
+	private static final Map<String, Stats> TRIGGERS = new ConcurrentHashMap<>();
+	// Weak keys, so that functions and items of unloaded scripts can be collected
+	private static final Map<Function<?>, Stats> FUNCTIONS = new MapMaker().weakKeys().makeMap();
+	private static final Map<TriggerItem, Stats> ITEMS = new MapMaker().weakKeys().makeMap();
+
+	private static volatile long since = System.currentTimeMillis();
+
+	private SkriptProfiler() {}
+
+	/**
+	 * @return Whether the profiler is recording.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param enabled Whether the profiler should record.
+	 */
+	public static void setEnabled(boolean enabled) {
+		SkriptProfiler.enabled = enabled;
+	}
+
+	/**
+	 * Sets how often the items of a trigger walk are timed.
+	 * @param itemSampleInterval On average, one in this many walks is timed. At least 1.
+	 */
+	public static void setItemSampleInterval(int itemSampleInterval) {
+		SkriptProfiler.itemSampleInterval = Math.max(itemSampleInterval, 1);
+	}
+
+	/**
+	 * @return The start of a measurement, to be passed to one of the record methods,
+	 * or 0 if the profiler is disabled.
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records an execution of a trigger.
+	 * @param label The debug label of the trigger.
+	 * @param start The value returned by {@link #start()} before the execution.
+	 */
+	public static void recordTrigger(String label, long start) {
+		if (start == 0)
+			return;
+		TRIGGERS.computeIfAbsent(label, key -> new Stats()).record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Records an execution of a function.
+	 * @param function The function that was executed.
+	 * @param start The value returned by {@link #start()} before the execution.
+	 */
+	public static void recordFunction(Function<?> function, long start) {
+		if (start == 0)
+			return;
+		FUNCTIONS.computeIfAbsent(function, key -> new Stats()).record(System.nanoTime() - start);
+	}
+
+	/**
+	 * @return Whether the items of the walk that is about to start should be timed.
+	 * @see TriggerItem#walk(TriggerItem, org.bukkit.event.Event)
+	 */
+	public static boolean sampleItems() {
+		if (!enabled)
+			return false;
+		int interval = itemSampleInterval;
+		return interval == 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+	}
+
+	/**
+	 * Records a sampled execution of a trigger item.
+	 * @param item The item that was executed.
+	 * @param nanos How long the item took, in nanoseconds.
+	 */
+	public static void recordItem(TriggerItem item, long nanos) {
+		if (item instanceof Trigger) // Only returns its first item
+			return;
+		ITEMS.computeIfAbsent(item, key -> new Stats()).record(nanos);
+	}
+
+	/**
+	 * Discards everything that has been recorded.
+	 */
+	public static void reset() {
+		TRIGGERS.clear();
+		FUNCTIONS.clear();
+		ITEMS.clear();
+		since = System.currentTimeMillis();
+	}
+
+	/**
+	 * @return The time in milliseconds since the epoch at which recording started.
+	 */
+	public static long getSince() {
+		return since;
+	}
+
+	/**
+	 * @param limit The maximum amount of entries to return.
+	 * @return The triggers that took the longest in total, in descending order.
+	 */
+	public static List<Entry> getTriggers(int limit) {
+		List<Entry> entries = new ArrayList<>(TRIGGERS.size());
+		TRIGGERS.forEach((label, stats) -> entries.add(new Entry(label, stats)));
+		return sorted(entries, limit);
+	}
+
+	/**
+	 * @param limit The maximum amount of entries to return.
+	 * @return The functions that took the longest in total, in descending order.
+	 */
+	public static List<Entry> getFunctions(int limit) {
+		List<Entry> entries = new ArrayList<>(FUNCTIONS.size());
+		FUNCTIONS.forEach((function, stats) -> entries.add(new Entry(function.getName(), stats)));
+		return sorted(entries, limit);
+	}
+
+	/**
+	 * @param limit The maximum amount of entries to return.
+	 * @return The sampled trigger items that took the longest in total, in descending order.
+	 */
+	public static List<Entry> getItems(int limit) {
+		List<Entry> entries = new ArrayList<>(ITEMS.size());
+		ITEMS.forEach((item, stats) -> {
+			Trigger trigger = item.getTrigger();
+			String label = item.toString(null, false);
+			entries.add(new Entry(trigger == null ? label : trigger.getDebugLabel() + ": " + label, stats));
+		});
+		return sorted(entries, limit);
+	}
+
+	private static List<Entry> sorted(List<Entry> entries, int limit) {
+		entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+		return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+	}
+
+	/**
+	 * Writes everything that has been recorded to a JSON file.
+	 * @param file The file to write to.
+	 * @throws IOException If the file could not be written.
+	 */
+	public static void dump(Path file) throws IOException {
+		JsonObject root = new JsonObject();
+		root.addProperty("since", since);
+		root.addProperty("until", System.currentTimeMillis());
+		root.addProperty("itemSampleInterval", itemSampleInterval);
+		root.add("triggers", toJson(getTriggers(Integer.MAX_VALUE)));
+		root.add("functions", toJson(getFunctions(Integer.MAX_VALUE)));
+		root.add("items", toJson(getItems(Integer.MAX_VALUE)));
+
+		Path parent = file.getParent();
+		if (parent != null)
+			Files.createDirectories(parent);
+		Files.writeString(file, new GsonBuilder()
+			.setPrettyPrinting()
+			.disableHtmlEscaping()
+			.create().toJson(root));
+	}
+
+	private static JsonArray toJson(List<Entry> entries) {
+		JsonArray array = new JsonArray();
+		for (Entry entry : entries) {
+			JsonObject object = new JsonObject();
+			object.addProperty("name", entry.name());
+			object.addProperty("count", entry.count());
+			object.addProperty("totalNanos", entry.totalNanos());
+			object.addProperty("maxNanos", entry.maxNanos());
+			object.addProperty("p50Nanos", entry.stats().getPercentile(0.5));
+			object.addProperty("p99Nanos", entry.stats().getPercentile(0.99));
+			JsonArray histogram = new JsonArray();
+			for (long bucket : entry.stats().getHistogram())
+				histogram.add(bucket);
+			object.add("histogram", histogram);
+			array.add(object);
+		}
+		return array;
+	}
+
+	/**
+	 * A snapshot of the name of a profiled element and its statistics.
+	 */
+	public record Entry(String name, Stats stats, long count, long totalNanos, long maxNanos) {
+
+		Entry(String name, Stats stats) {
+			this(name, stats, stats.getCount(), stats.getTotalNanos(), stats.getMaxNanos());
+		}
+
+		/**
+		 * @return The average time an execution took, in nanoseconds.
+		 */
+		public long averageNanos() {
+			return count == 0 ? 0 : totalNanos / count;
+		}
+
+	}
+
+	/**
+	 * The statistics of a profiled element.
+	 * Durations are additionally recorded into a histogram with power of two buckets,
+	 * i.e. bucket {@code i} counts durations of less than {@code 2^(i+1)} nanoseconds.
+	 */
+	public static final class Stats {
+
+		private static final int BUCKETS = 36; // The last bucket holds everything of more than about 34 seconds
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+		Stats() {
+			for (int i = 0; i < BUCKETS; i++)
+				histogram[i] = new LongAdder();
+		}
+
+		void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			int bucket = 63 - Long.numberOfLeadingZeros(Math.max(nanos, 1));
+			histogram[Math.min(bucket, BUCKETS - 1)].increment();
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		/**
+		 * @return The amount of recorded durations per bucket.
+		 */
+		public long[] getHistogram() {
+			long[] counts = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++)
+				counts[i] = histogram[i].sum();
+			return counts;
+		}
+
+		/**
+		 * Estimates a percentile of the recorded durations.
+		 * @param percentile The percentile, between 0 and 1.
+		 * @return The upper bound of the bucket containing the percentile, in nanoseconds.
+		 */
+		public long getPercentile(double percentile) {
+			long[] counts = getHistogram();
+			long total = 0;
+			for (long bucket : counts)
+				total += bucket;
+			long target = (long) Math.ceil(total * percentile);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += counts[i];
+				if (seen >= target && seen > 0)
+					return i == BUCKETS - 1 ? getMaxNanos() : (1L << (i + 1)) - 1;
+			}
+			return 0;
+		}
+
+	}
+
+}
@@ -8,6 +8,7 @@ import co.aikar.timings.Timings;
 
 /**
  * Static utils for Skript timings.
+ * Timings are recorded by the {@link SkriptProfiler} and, where still supported, by Paper's timings.
  */
 @SuppressWarnings("removal")
 public class SkriptTimings {
@@ -18,21 +19,33 @@ public class SkriptTimings {
 
 	@Nullable
 	public static Object start(String name) {
-		if (!enabled()) // Timings disabled :(
-			return null;
-		Timing timing = Timings.of(skript, name);
-		timing.startTimingIfSync(); // No warning spam in async code
-		assert timing != null;
+		Timing timing = null;
+		if (paperTimingsEnabled()) {
+			timing = Timings.of(skript, name);
+			timing.startTimingIfSync(); // No warning spam in async code
+		}
+		if (SkriptProfiler.isEnabled())
+			return new ProfiledTiming(name, SkriptProfiler.start(), timing);
 		return timing;
 	}
 
 	public static void stop(@Nullable Object timing) {
 		if (timing == null) // Timings disabled...
 			return;
+		if (timing instanceof ProfiledTiming profiled) {
+			SkriptProfiler.recordTrigger(profiled.name, profiled.start);
+			if (profiled.timing != null)
+				profiled.timing.stopTimingIfSync();
+			return;
+		}
 		((Timing) timing).stopTimingIfSync();
 	}
 
 	public static boolean enabled() {
+		return SkriptProfiler.isEnabled() || paperTimingsEnabled();
+	}
+
+	private static boolean paperTimingsEnabled() {
 		// First check if we can run timings (enabled in settings + running Paper)
 		// After that (we know that class exists), check if server has timings running
 		return enabled && Timings.isTimingsEnabled();
@@ -46,4 +59,6 @@ public class SkriptTimings {
 		skript = plugin;
 	}
 
+	private record ProfiledTiming(String name, long start, @Nullable Timing timing) { }
+
 }
@@ -1,6 +1,5 @@
 package ch.njol.skript.util;
 
-import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
 
@@ -33,33 +32,39 @@ public abstract class AsyncEffect extends Effect {
 		if (!Skript.getInstance().isEnabled()) // See https://github.com/SkriptLang/Skript/issues/3702
 			return null;
 
-		Bukkit.getScheduler().runTaskAsynchronously(Skript.getInstance(), () -> {
+		TriggerItem next = getNext();
+		AsyncExecutor.execute(() -> {
 			Delay.addDelayedEvent(e); // Mark this event as delayed
 			// Re-set local variables
 			if (localVars != null)
 				Variables.setLocalVariables(e, localVars);
 			
-			execute(e); // Execute this effect
-			
-			if (getNext() != null) {
-				Bukkit.getScheduler().runTask(Skript.getInstance(), () -> { // Walk to next item synchronously
-					Object timing = null;
-					if (SkriptTimings.enabled()) { // getTrigger call is not free, do it only if we must
-						Trigger trigger = getTrigger();
-						if (trigger != null) {
-							timing = SkriptTimings.start(trigger.getDebugLabel());
-						}
-					}
-					
-					TriggerItem.walk(getNext(), e);
-					
-					Variables.removeLocals(e); // Clean up local vars, we may be exiting now
-					
-					SkriptTimings.stop(timing); // Stop timing if it was even started
-				});
-			} else {
+			boolean completed = true;
+			try {
+				execute(e); // Execute this effect
+			} catch (Exception ex) { // End the trigger, just like an exception on the main thread does
+				if (ex.getStackTrace().length != 0) // empty exceptions have already been printed
+					Skript.exception(ex, this);
+				completed = false;
+			}
+
+			if (!completed || next == null)
 				Variables.removeLocals(e);
+			return completed;
+		}, next == null ? null : () -> { // Walk to next item synchronously
+			Object timing = null;
+			if (SkriptTimings.enabled()) { // getTrigger call is not free, do it only if we must
+				Trigger trigger = getTrigger();
+				if (trigger != null) {
+					timing = SkriptTimings.start(trigger.getDebugLabel());
+				}
 			}
+			
+			TriggerItem.walk(next, e);
+			
+			Variables.removeLocals(e); // Clean up local vars, we may be exiting now
+			
+			SkriptTimings.stop(timing); // Stop timing if it was even started
 		});
 		return null;
 	}
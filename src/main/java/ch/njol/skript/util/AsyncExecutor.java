@@ -0,0 +1,167 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs work off the main server thread and afterwards resumes on the main server thread,
+ * as done by {@link AsyncEffect} and {@link ch.njol.skript.sections.SecAsync}.
+ * <p>
+ * By default, work is run on Bukkit's async scheduler and every resumption is scheduled as its own task.
+ * When virtual threads are enabled, work is instead run on a virtual thread, of which only a limited amount may
+ * run at the same time. Resumptions are then queued and a limited amount of them is run every tick.
+ * This allows work that mostly blocks (e.g. on I/O) to scale without exhausting the async scheduler's threads.
+ */
+public final class AsyncExecutor {
+
+	private static volatile boolean useVirtualThreads = false;
+	private static volatile int resumesPerTick = 100;
+
+	private static final AdjustableSemaphore IN_FLIGHT = new AdjustableSemaphore(256);
+	private static int maxInFlight = 256;
+
+	private static @Nullable ExecutorService virtualExecutor;
+
+	private static final Queue<Runnable> RESUMES = new ConcurrentLinkedQueue<>();
+	private static volatile int resumeTaskId = -1;
+
+	private AsyncExecutor() {}
+
+	/**
+	 * @param useVirtualThreads Whether work should be run on virtual threads.
+	 */
+	public static void setUseVirtualThreads(boolean useVirtualThreads) {
+		AsyncExecutor.useVirtualThreads = useVirtualThreads;
+	}
+
+	/**
+	 * Sets how much work may run on virtual threads at the same time. Further work waits until a slot is free.
+	 * @param maxInFlight The maximum amount of concurrently running work, at least 1.
+	 */
+	public static synchronized void setMaxInFlight(int maxInFlight) {
+		maxInFlight = Math.max(maxInFlight, 1);
+		int difference = maxInFlight - AsyncExecutor.maxInFlight;
+		if (difference > 0) {
+			IN_FLIGHT.release(difference);
+		} else if (difference < 0) {
+			// Work that is currently running keeps its permits, the limit is lowered as it finishes
+			IN_FLIGHT.reducePermits(-difference);
+		}
+		AsyncExecutor.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Sets how many queued resumptions are run on the main server thread per tick when virtual threads are used.
+	 * @param resumesPerTick The amount of resumptions per tick, at least 1.
+	 */
+	public static void setResumesPerTick(int resumesPerTick) {
+		AsyncExecutor.resumesPerTick = Math.max(resumesPerTick, 1);
+	}
+
+	/**
+	 * Runs the given work off the main server thread, and the given resumption on the main server thread afterwards.
+	 * If the work throws an exception, it is logged and the resumption is not run.
+	 * @param work The work to run off the main server thread, which returns whether the resumption should be run.
+	 * @param resume The resumption to run on the main server thread once the work is done, if any.
+	 */
+	public static void execute(BooleanSupplier work, @Nullable Runnable resume) {
+		if (!useVirtualThreads) {
+			Bukkit.getScheduler().runTaskAsynchronously(Skript.getInstance(), () -> {
+				if (run(work) && resume != null && Skript.getInstance().isEnabled())
+					Bukkit.getScheduler().runTask(Skript.getInstance(), resume);
+			});
+			return;
+		}
+
+		getVirtualExecutor().execute(() -> {
+			IN_FLIGHT.acquireUninterruptibly();
+			boolean completed;
+			try {
+				completed = run(work);
+			} finally {
+				IN_FLIGHT.release();
+			}
+			if (completed && resume != null && Skript.getInstance().isEnabled()) {
+				RESUMES.add(resume);
+				if (resumeTaskId == -1)
+					startResumeTask();
+			}
+		});
+	}
+
+	/**
+	 * @return Whether the work completed and should be resumed.
+	 */
+	private static boolean run(BooleanSupplier work) {
+		try {
+			return work.getAsBoolean();
+		} catch (Exception e) {
+			if (e.getStackTrace().length != 0) // empty exceptions have already been printed
+				Skript.exception(e, "An error occurred while running async work.");
+			return false;
+		}
+	}
+
+	private static synchronized ExecutorService getVirtualExecutor() {
+		ExecutorService executor = virtualExecutor;
+		if (executor == null) {
+			executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Skript async ", 0).factory());
+			virtualExecutor = executor;
+		}
+		return executor;
+	}
+
+	private static synchronized void startResumeTask() {
+		if (resumeTaskId == -1)
+			resumeTaskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), AsyncExecutor::resume, 1, 1);
+	}
+
+	private static void resume() {
+		Runnable resume;
+		for (int remaining = resumesPerTick; remaining > 0 && (resume = RESUMES.poll()) != null; remaining--) {
+			try {
+				resume.run();
+			} catch (Exception e) {
+				Skript.exception(e, "An error occurred while resuming after async work.");
+			}
+		}
+	}
+
+	/**
+	 * Stops resuming queued work and stops accepting new work on virtual threads.
+	 * Work that is still running will not be resumed.
+	 */
+	public static synchronized void stop() {
+		if (resumeTaskId != -1) {
+			Bukkit.getScheduler().cancelTask(resumeTaskId);
+			resumeTaskId = -1;
+		}
+		RESUMES.clear();
+		if (virtualExecutor != null) {
+			virtualExecutor.shutdown();
+			virtualExecutor = null;
+		}
+	}
+
+	private static final class AdjustableSemaphore extends Semaphore {
+
+		AdjustableSemaphore(int permits) {
+			super(permits);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+
+	}
+
+}
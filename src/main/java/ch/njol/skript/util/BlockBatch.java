@@ -0,0 +1,225 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.aliases.ItemType;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Collects block changes to apply them later in bulk, see {@link ch.njol.skript.sections.SecBlockBatch}.
+ * <p>
+ * While a batch is open on the main server thread, blocks that are set or deleted through Skript's block changer
+ * are staged in the batch instead of being changed. Staged changes are grouped by world and chunk, and a later change to
+ * the same block replaces an earlier one. Once the batch is closed, its changes are applied chunk by chunk without
+ * physics updates, spread over as many ticks as needed to stay within the configured time per tick.
+ * Changes are not visible in the world until they are applied.
+ */
+public final class BlockBatch {
+
+	private static volatile long budgetNanos = 5_000_000; // 5 milliseconds
+
+	// Only accessed on the main server thread
+	@Nullable
+	private static BlockBatch current;
+	private static int depth = 0;
+	private static final Queue<BlockBatch> PENDING = new ArrayDeque<>();
+
+	private static int taskId = -1;
+
+	private final Map<ChunkKey, Map<Long, Change>> chunks = new LinkedHashMap<>();
+	private final Map<ItemType, ItemType> stagedTypes = new HashMap<>();
+	@Nullable
+	private Iterator<Map<Long, Change>> applying;
+	@Nullable
+	private Iterator<Change> applyingChunk;
+
+	private BlockBatch() {}
+
+	/**
+	 * Sets how long staged changes may be applied for per tick.
+	 * @param budget The time per tick. At least one change is applied per tick.
+	 */
+	public static void setBudget(Timespan budget) {
+		budgetNanos = budget.getAs(Timespan.TimePeriod.MILLISECOND) * 1_000_000L;
+	}
+
+	/**
+	 * Starts the repeating task that applies the changes of closed batches.
+	 * @param plugin The plugin owning the task.
+	 */
+	public static void start(Plugin plugin) {
+		if (taskId != -1)
+			return;
+		taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, BlockBatch::tick, 1, 1);
+	}
+
+	/**
+	 * Stops the repeating task and applies all changes that are still pending.
+	 */
+	public static void stop() {
+		if (taskId != -1) {
+			Bukkit.getScheduler().cancelTask(taskId);
+			taskId = -1;
+		}
+		apply(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Opens a batch. Batches may be nested, in which case the changes are staged in the outermost batch.
+	 * @return Whether a batch was opened, in which case {@link #close()} must be called once the changes are staged.
+	 * Batches can only be opened on the main server thread.
+	 */
+	public static boolean open() {
+		if (!Bukkit.isPrimaryThread())
+			return false;
+		if (depth++ == 0)
+			current = new BlockBatch();
+		return true;
+	}
+
+	/**
+	 * Closes a batch opened by {@link #open()}. When the outermost batch is closed,
+	 * as many of its changes as the budget of the current tick allows are applied immediately.
+	 */
+	public static void close() {
+		assert depth > 0;
+		if (--depth > 0)
+			return;
+		BlockBatch batch = current;
+		current = null;
+		if (batch != null && !batch.chunks.isEmpty()) {
+			PENDING.add(batch);
+			apply(budgetNanos);
+		}
+	}
+
+	/**
+	 * @return The batch changes should currently be staged in, or null if changes should be applied immediately.
+	 */
+	public static @Nullable BlockBatch getCurrent() {
+		if (current == null || !Bukkit.isPrimaryThread())
+			return null;
+		return current;
+	}
+
+	/**
+	 * @return The amount of changes that are waiting to be applied.
+	 */
+	public static int getPending() {
+		int pending = 0;
+		for (BlockBatch batch : PENDING) {
+			for (Map<Long, Change> chunk : batch.chunks.values())
+				pending += chunk.size();
+		}
+		return pending;
+	}
+
+	/**
+	 * Stages setting a block to an item type.
+	 * @param block The block to set.
+	 * @param type The item type to set the block to.
+	 */
+	public void set(Block block, ItemType type) {
+		// Item types may be changed later on, e.g. when stored in a variable, so only copies are staged and used as keys
+		ItemType staged = stagedTypes.get(type);
+		if (staged == null) {
+			staged = type.clone();
+			stagedTypes.put(staged, staged);
+		}
+		stage(new Change(block, staged, null));
+	}
+
+	/**
+	 * Stages setting a block to block data.
+	 * @param block The block to set.
+	 * @param data The block data to set the block to.
+	 */
+	public void set(Block block, BlockData data) {
+		stage(new Change(block, null, data.clone()));
+	}
+
+	/**
+	 * Stages deleting a block, i.e. setting it to air.
+	 * @param block The block to delete.
+	 */
+	public void delete(Block block) {
+		stage(new Change(block, null, null));
+	}
+
+	private void stage(Change change) {
+		Block block = change.block;
+		ChunkKey chunkKey = new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+		// The position of the block within its chunk, whose key includes the world
+		long blockKey = (long) (block.getX() & 0xF) << 36 | (long) (block.getZ() & 0xF) << 32 | (block.getY() & 0xFFFFFFFFL);
+		chunks.computeIfAbsent(chunkKey, key -> new LinkedHashMap<>())
+			.put(blockKey, change);
+	}
+
+	private static void tick() {
+		if (!PENDING.isEmpty())
+			apply(budgetNanos);
+	}
+
+	/**
+	 * Applies pending changes until the given time is used up, but at least one change.
+	 */
+	private static void apply(long budget) {
+		long start = System.nanoTime();
+		boolean applied = false;
+		BlockBatch batch;
+		while ((batch = PENDING.peek()) != null) {
+			if (batch.applying == null)
+				batch.applying = batch.chunks.values().iterator();
+			while (true) {
+				Iterator<Change> chunk = batch.applyingChunk;
+				if (chunk == null || !chunk.hasNext()) {
+					Iterator<Map<Long, Change>> chunks = batch.applying;
+					if (!chunks.hasNext())
+						break;
+					chunk = batch.applyingChunk = chunks.next().values().iterator();
+					continue;
+				}
+				if (applied && System.nanoTime() - start > budget)
+					return;
+				Change change = chunk.next();
+				chunk.remove();
+				try {
+					change.apply();
+				} catch (Exception e) {
+					Skript.exception(e, "An error occurred while applying a batched block change.");
+				}
+				applied = true;
+			}
+			PENDING.poll();
+		}
+	}
+
+	private record ChunkKey(UUID world, int x, int z) { }
+
+	private record Change(Block block, @Nullable ItemType type, @Nullable BlockData data) {
+
+		void apply() {
+			if (type != null) {
+				type.setBlock(block, false);
+			} else if (data != null) {
+				block.setBlockData(data, false);
+			} else {
+				block.setType(Material.AIR, false);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,237 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A cursor over the block positions of a shape, which doesn't create a {@link Block} for every position.
+ * <p>
+ * The cursor starts before the first position. Each call to {@link #advance()} moves it to the next position,
+ * whose coordinates are then available as primitives. The type of the block at the current position can be read
+ * without creating a block, so that positions can be filtered by their material before any block is created.
+ * <p>
+ * Positions are visited one chunk at a time, so that consecutive positions are close to each other in memory.
+ * Within a chunk, positions are visited by y, then z, then x.
+ */
+public abstract class BlockCursor {
+
+	private final World world;
+	private final int minX, minY, minZ, maxX, maxY, maxZ;
+	private final int maxChunkX, maxChunkZ;
+
+	private int chunkX, chunkZ;
+	private int chunkMinX, chunkMinZ, chunkMaxX, chunkMaxZ;
+	private int x, y, z;
+	private boolean started = false, finished;
+
+	/**
+	 * Creates a cursor over the positions within the given bounds that are part of the shape.
+	 * The bounds are inclusive.
+	 */
+	protected BlockCursor(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		this.world = world;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.maxZ = maxZ;
+		this.maxChunkX = maxX >> 4;
+		this.maxChunkZ = maxZ >> 4;
+		this.finished = minX > maxX || minY > maxY || minZ > maxZ;
+	}
+
+	/**
+	 * Creates a cursor over all positions of a cuboid. The corners are inclusive and may be given in any order.
+	 * @param world The world of the cuboid.
+	 * @return A cursor over the positions of the cuboid.
+	 */
+	public static BlockCursor cuboid(World world, int x1, int y1, int z1, int x2, int y2, int z2) {
+		return new BlockCursor(world, Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+				Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2)) {
+			@Override
+			protected boolean contains(int x, int y, int z) {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Creates a cursor over all positions of a chunk, from the minimum to the maximum height of its world.
+	 * @param chunk The chunk.
+	 * @return A cursor over the positions of the chunk.
+	 */
+	public static BlockCursor chunk(Chunk chunk) {
+		World world = chunk.getWorld();
+		int x = chunk.getX() << 4, z = chunk.getZ() << 4;
+		return cuboid(world, x, world.getMinHeight(), z, x + 15, world.getMaxHeight() - 1, z + 15);
+	}
+
+	/**
+	 * Creates a cursor over all positions whose block center is within a sphere.
+	 * Positions outside the height limits of the world are excluded.
+	 * @param center The center of the sphere. Must have a world.
+	 * @param radius The radius of the sphere.
+	 * @return A cursor over the positions of the sphere.
+	 */
+	public static BlockCursor sphere(Location center, double radius) {
+		World world = center.getWorld();
+		assert world != null;
+		double centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ();
+		double bound = radius + 0.5001;
+		double radiusSquared = radius * radius * Skript.EPSILON_MULT;
+		return new BlockCursor(world,
+				(int) Math.ceil(centerX - bound),
+				(int) Math.ceil(Math.max(centerY - bound, world.getMinHeight())),
+				(int) Math.ceil(centerZ - bound),
+				(int) Math.floor(centerX + bound),
+				(int) Math.floor(Math.min(centerY + bound, world.getMaxHeight() - 1)),
+				(int) Math.floor(centerZ + bound)) {
+			@Override
+			protected boolean contains(int x, int y, int z) {
+				double dx = x + 0.5 - centerX, dy = y + 0.5 - centerY, dz = z + 0.5 - centerZ;
+				return dx * dx + dy * dy + dz * dz < radiusSquared;
+			}
+		};
+	}
+
+	/**
+	 * @return Whether the given position, which is within the bounds of this cursor, is part of its shape.
+	 */
+	protected abstract boolean contains(int x, int y, int z);
+
+	/**
+	 * Moves this cursor to the next position.
+	 * @return Whether there was a next position. If not, the cursor must not be used anymore.
+	 */
+	public boolean advance() {
+		while (step()) {
+			if (contains(x, y, z))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean step() {
+		if (finished)
+			return false;
+		if (!started) {
+			started = true;
+			chunkX = minX >> 4;
+			chunkZ = minZ >> 4;
+			enterChunk();
+			return true;
+		}
+		if (x < chunkMaxX) {
+			x++;
+			return true;
+		}
+		x = chunkMinX;
+		if (z < chunkMaxZ) {
+			z++;
+			return true;
+		}
+		z = chunkMinZ;
+		if (y < maxY) {
+			y++;
+			return true;
+		}
+		if (chunkZ < maxChunkZ) {
+			chunkZ++;
+		} else if (chunkX < maxChunkX) {
+			chunkX++;
+			chunkZ = minZ >> 4;
+		} else {
+			finished = true;
+			return false;
+		}
+		enterChunk();
+		return true;
+	}
+
+	private void enterChunk() {
+		chunkMinX = Math.max(minX, chunkX << 4);
+		chunkMaxX = Math.min(maxX, (chunkX << 4) + 15);
+		chunkMinZ = Math.max(minZ, chunkZ << 4);
+		chunkMaxZ = Math.min(maxZ, (chunkZ << 4) + 15);
+		x = chunkMinX;
+		y = minY;
+		z = chunkMinZ;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getZ() {
+		return z;
+	}
+
+	/**
+	 * Reads the type of the block at the current position without creating a block.
+	 * The type is read from the world itself, so changes made while iterating are taken into account.
+	 * @return The type of the block at the current position.
+	 */
+	public Material getType() {
+		return world.getType(x, y, z);
+	}
+
+	/**
+	 * @return The block at the current position.
+	 */
+	public Block getBlock() {
+		return world.getBlockAt(x, y, z);
+	}
+
+	/**
+	 * Creates an iterator over the blocks at the remaining positions of this cursor.
+	 * The iterator advances this cursor, so the cursor must not be used otherwise anymore.
+	 * @param materials The materials of the blocks to return, or null to return all blocks.
+	 * Blocks are only created for positions whose block is of one of these materials.
+	 * @return An iterator over the blocks.
+	 */
+	public Iterator<Block> blocks(@Nullable Set<Material> materials) {
+		return new Iterator<>() {
+
+			private boolean advanced = false, hasNext;
+
+			@Override
+			public boolean hasNext() {
+				if (!advanced) {
+					do {
+						hasNext = advance();
+					} while (hasNext && materials != null && !materials.contains(getType()));
+					advanced = true;
+				}
+				return hasNext;
+			}
+
+			@Override
+			public Block next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				advanced = false;
+				return getBlock();
+			}
+
+		};
+	}
+
+}
@@ -126,7 +126,8 @@ public class BlockLineIterator implements Iterator<Block> {
 	 * @return the block at the given xyz coords in the given world.
 	 */
 	private static @NotNull Block getBlock(@NotNull Vector3d vector, @NotNull World world) {
-		return Vector.fromJOML(vector).toLocation(world).getBlock();
+		// Avoid creating a Location only to get the block from it
+		return world.getBlockAt((int) Math.floor(vector.x), (int) Math.floor(vector.y), (int) Math.floor(vector.z));
 	}
 
 }
@@ -2,25 +2,18 @@ package ch.njol.skript.util;
 
 import org.bukkit.Location;
 import org.bukkit.block.Block;
-import org.jetbrains.annotations.Nullable;
 
-import ch.njol.skript.Skript;
-import ch.njol.util.NullableChecker;
 import ch.njol.util.coll.iterator.CheckedIterator;
 
 /**
+ * Iterates the blocks whose centers are within a sphere, one chunk at a time.
+ *
  * @author Peter Güttinger
+ * @see BlockCursor#sphere(Location, double)
  */
 public class BlockSphereIterator extends CheckedIterator<Block> {
 	
 	public BlockSphereIterator(final Location center, final double radius) {
-		super(new AABB(center, radius + 0.5001, radius + 0.5001, radius + 0.5001).iterator(), new NullableChecker<Block>() {
-			private final double rSquared = radius * radius * Skript.EPSILON_MULT;
-			
-			@Override
-			public boolean check(final @Nullable Block b) {
-				return b != null && center.distanceSquared(b.getLocation().add(0.5, 0.5, 0.5)) < rSquared;
-			}
-		});
+		super(BlockCursor.sphere(center, radius).blocks(null), block -> true);
 	}
 }
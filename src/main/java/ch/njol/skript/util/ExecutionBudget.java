@@ -0,0 +1,189 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how much time Skript may spend executing triggers on the main server thread per tick.
+ * <p>
+ * Time is accounted for every outermost trigger execution on the main server thread.
+ * Once the budget of the current tick is used up, triggers of scripts with a low execution priority
+ * (see {@link ch.njol.skript.structures.StructExecution}) are deferred to the next tick,
+ * both when they are about to start and at the start of each loop iteration.
+ * Deferred work is run at the start of the following ticks, before any other trigger.
+ * <p>
+ * The budget is disabled by default. All methods except for the statistics must be called on the main server thread,
+ * or are no-ops otherwise.
+ */
+public final class ExecutionBudget {
+
+	private static final long SUMMARY_INTERVAL = 60 * 20; // One minute
+
+	private static volatile long budgetNanos = 0;
+
+	// Only accessed on the main server thread
+	private static long usedNanos = 0;
+	private static long executionStart;
+	private static int depth = 0;
+	private static final Queue<Runnable> DEFERRED = new ArrayDeque<>();
+
+	private static final LongAdder DEFERRED_TRIGGERS = new LongAdder();
+	private static final LongAdder DEFERRED_LOOPS = new LongAdder();
+	private static long summaryTick = 0;
+	private static long summaryTriggers = 0;
+	private static long summaryLoops = 0;
+
+	private static int taskId = -1;
+
+	private ExecutionBudget() {}
+
+	/**
+	 * Sets the time triggers may run for per tick.
+	 * @param budget The budget per tick. A budget of zero disables the budget.
+	 */
+	public static void setBudget(Timespan budget) {
+		budgetNanos = budget.getAs(Timespan.TimePeriod.MILLISECOND) * 1_000_000L;
+	}
+
+	/**
+	 * @return Whether a budget is being enforced.
+	 */
+	public static boolean isEnabled() {
+		return budgetNanos > 0;
+	}
+
+	/**
+	 * Starts the repeating task that resets the budget and runs deferred work every tick.
+	 * @param plugin The plugin owning the task.
+	 */
+	public static void start(Plugin plugin) {
+		if (taskId != -1)
+			return;
+		taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, ExecutionBudget::tick, 1, 1);
+	}
+
+	/**
+	 * Stops the repeating task and discards all deferred work.
+	 */
+	public static void stop() {
+		if (taskId != -1) {
+			Bukkit.getScheduler().cancelTask(taskId);
+			taskId = -1;
+		}
+		DEFERRED.clear();
+	}
+
+	/**
+	 * Marks the start of an execution whose time should count towards the budget.
+	 * Nested executions are only accounted for once.
+	 * @return Whether the execution is accounted for, in which case {@link #exit()} must be called once it is done.
+	 */
+	public static boolean enter() {
+		if (budgetNanos <= 0 || !Bukkit.isPrimaryThread())
+			return false;
+		if (depth++ == 0)
+			executionStart = System.nanoTime();
+		return true;
+	}
+
+	/**
+	 * Marks the end of an execution for which {@link #enter()} returned true.
+	 */
+	public static void exit() {
+		assert depth > 0;
+		if (--depth == 0)
+			usedNanos += System.nanoTime() - executionStart;
+	}
+
+	/**
+	 * @return Whether the budget of the current tick has been used up.
+	 * Always false off the main server thread or when no budget is set.
+	 */
+	public static boolean isExceeded() {
+		long budget = budgetNanos;
+		if (budget <= 0 || !Bukkit.isPrimaryThread())
+			return false;
+		long used = usedNanos;
+		if (depth > 0)
+			used += System.nanoTime() - executionStart;
+		return used > budget;
+	}
+
+	/**
+	 * Defers a trigger execution to the next tick.
+	 * @param execution The execution to run in the next tick.
+	 */
+	public static void deferTrigger(Runnable execution) {
+		DEFERRED.add(execution);
+		DEFERRED_TRIGGERS.increment();
+	}
+
+	/**
+	 * Defers the continuation of a loop to the next tick.
+	 * @param continuation The continuation to run in the next tick.
+	 */
+	public static void deferLoop(Runnable continuation) {
+		DEFERRED.add(continuation);
+		DEFERRED_LOOPS.increment();
+	}
+
+	/**
+	 * @return The total amount of trigger executions that have been deferred.
+	 */
+	public static long getDeferredTriggers() {
+		return DEFERRED_TRIGGERS.sum();
+	}
+
+	/**
+	 * @return The total amount of loop iterations that have been deferred.
+	 */
+	public static long getDeferredLoops() {
+		return DEFERRED_LOOPS.sum();
+	}
+
+	/**
+	 * @return The amount of deferred work that is waiting to be run.
+	 */
+	public static int getPending() {
+		return DEFERRED.size();
+	}
+
+	private static void tick() {
+		usedNanos = 0;
+
+		// Work deferred while running deferred work waits for the next tick
+		for (int remaining = DEFERRED.size(); remaining > 0 && !isExceeded(); remaining--) {
+			Runnable deferred = DEFERRED.poll();
+			assert deferred != null;
+			boolean accounted = enter();
+			try {
+				deferred.run();
+			} catch (Exception e) {
+				Skript.exception(e, "An error occurred while running a deferred trigger.");
+			} finally {
+				if (accounted)
+					exit();
+			}
+		}
+
+		if (++summaryTick % SUMMARY_INTERVAL == 0)
+			logSummary();
+	}
+
+	private static void logSummary() {
+		long triggers = getDeferredTriggers();
+		long loops = getDeferredLoops();
+		if (triggers == summaryTriggers && loops == summaryLoops)
+			return;
+		Skript.warning("The execution budget was exceeded in the last minute. " + (triggers - summaryTriggers)
+				+ " trigger(s) and " + (loops - summaryLoops) + " loop iteration(s) were deferred to a later tick.");
+		summaryTriggers = triggers;
+		summaryLoops = loops;
+	}
+
+}
@@ -0,0 +1,230 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.script.Script;
+import org.skriptlang.skript.lang.script.ScriptUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attributes the CPU time spent on the main server thread to the scripts being executed,
+ * and enforces the quotas scripts declare (see {@link ch.njol.skript.structures.StructExecution}).
+ * <p>
+ * Every execution of a trigger or function, and every continuation after a delay or a deferred loop iteration,
+ * is {@link #enter(Script) entered} and {@link #exit() exited}. The time between two such points is attributed
+ * to the innermost script, so that a function of another script is accounted to the script defining it.
+ * The clock is only read when the innermost script changes.
+ * <p>
+ * Quotas are checked at the start of every tick against the {@link ScriptUsage usage} of the current second.
+ * A script that exceeds one of its quotas is throttled, i.e. its triggers are not run for the rest of the second,
+ * or disabled until it is reloaded.
+ */
+public final class ScriptAccounting {
+
+	private static final int WINDOW_TICKS = 20; // One second
+	private static final long WARNING_INTERVAL = 60_000; // One minute
+
+	/**
+	 * The resources a script may use per second. Values of zero or less are not limited.
+	 * @param cpuNanos The CPU time on the main server thread, in nanoseconds.
+	 * @param variableWrites The amount of changes of global variables.
+	 * @param delays The amount of delays started.
+	 * @param loopIterations The amount of loop iterations.
+	 * @param disable Whether the triggers of the script should be disabled until it is reloaded when it exceeds a quota,
+	 *                instead of only being throttled for the rest of the second.
+	 */
+	public record Quota(long cpuNanos, long variableWrites, long delays, long loopIterations, boolean disable) {
+
+		/**
+		 * @return Whether any resource is limited.
+		 */
+		public boolean isLimited() {
+			return cpuNanos > 0 || variableWrites > 0 || delays > 0 || loopIterations > 0;
+		}
+
+	}
+
+	// Only accessed on the main server thread
+	private static ScriptUsage[] stack = new ScriptUsage[16];
+	private static int depth = 0;
+	private static long lastSwitch;
+
+	private static final Map<Script, QuotaState> QUOTAS = new ConcurrentHashMap<>();
+
+	private static int taskId = -1;
+
+	private ScriptAccounting() {}
+
+	/**
+	 * Starts the repeating task checking the quotas of scripts.
+	 * @param plugin The plugin owning the task.
+	 */
+	public static void start(Plugin plugin) {
+		if (taskId != -1)
+			return;
+		taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, ScriptAccounting::tick, 1, 1);
+	}
+
+	/**
+	 * Stops the repeating task checking the quotas of scripts.
+	 */
+	public static void stop() {
+		if (taskId != -1) {
+			Bukkit.getScheduler().cancelTask(taskId);
+			taskId = -1;
+		}
+		QUOTAS.clear();
+	}
+
+	/**
+	 * Marks the start of an execution of a script on the current thread.
+	 * @param script The script being executed.
+	 * @return Whether the execution is accounted for, in which case {@link #exit()} must be called once it is done.
+	 * Executions off the main server thread are not.
+	 */
+	public static boolean enter(@Nullable Script script) {
+		if (script == null || !Bukkit.isPrimaryThread())
+			return false;
+		ScriptUsage usage = script.getUsage();
+		if (depth == stack.length)
+			stack = Arrays.copyOf(stack, depth * 2);
+		if (depth == 0 || stack[depth - 1] != usage) {
+			long now = System.nanoTime();
+			if (depth > 0)
+				stack[depth - 1].addCpuNanos(now - lastSwitch);
+			lastSwitch = now;
+		}
+		stack[depth++] = usage;
+		return true;
+	}
+
+	/**
+	 * Marks the end of an execution for which {@link #enter(Script)} returned true.
+	 */
+	public static void exit() {
+		assert depth > 0;
+		ScriptUsage usage = stack[--depth];
+		stack[depth] = null;
+		if (depth == 0 || stack[depth - 1] != usage) {
+			long now = System.nanoTime();
+			usage.addCpuNanos(now - lastSwitch);
+			lastSwitch = now;
+		}
+	}
+
+	/**
+	 * Sets the quota of a script.
+	 * @param script The script.
+	 * @param quota The quota of the script, or null to remove it.
+	 */
+	public static void setQuota(Script script, @Nullable Quota quota) {
+		if (quota == null || !quota.isLimited()) {
+			QUOTAS.remove(script);
+			script.getUsage().setThrottled(false);
+		} else {
+			QUOTAS.put(script, new QuotaState(script, quota));
+		}
+	}
+
+	/**
+	 * @param script The script.
+	 * @return The quota of the script, or null if it has none.
+	 */
+	public static @Nullable Quota getQuota(Script script) {
+		QuotaState state = QUOTAS.get(script);
+		return state == null ? null : state.quota;
+	}
+
+	/**
+	 * @param script The script whose trigger is about to be run, if any.
+	 * @return Whether the triggers of the script must not be run because it has exceeded one of its quotas.
+	 */
+	public static boolean isThrottled(@Nullable Script script) {
+		return script != null && script.getUsage().isThrottled();
+	}
+
+	/**
+	 * Checks the quotas of all scripts, once per tick.
+	 */
+	static void tick() {
+		for (QuotaState state : QUOTAS.values())
+			state.tick();
+	}
+
+	private static final class QuotaState {
+
+		private final Script script;
+		private final Quota quota;
+
+		private int ticks = 0;
+		private boolean disabled = false;
+		private long lastWarning = 0;
+
+		// The usage at the start of the current window
+		private long cpuNanos, variableWrites, delays, loopIterations;
+
+		QuotaState(Script script, Quota quota) {
+			this.script = script;
+			this.quota = quota;
+			resetWindow();
+		}
+
+		void tick() {
+			if (disabled)
+				return;
+			ScriptUsage usage = script.getUsage();
+			// The usage of the last tick of a window is checked before the window is reset
+			if (!usage.isThrottled())
+				check(usage);
+			if (++ticks >= WINDOW_TICKS && !disabled) {
+				resetWindow();
+				usage.setThrottled(false);
+			}
+		}
+
+		private void check(ScriptUsage usage) {
+			List<String> exceeded = new ArrayList<>(1);
+			if (quota.cpuNanos() > 0 && usage.getCpuNanos() - cpuNanos > quota.cpuNanos())
+				exceeded.add(quota.cpuNanos() / 1_000_000.0 + " ms of CPU time");
+			if (quota.variableWrites() > 0 && usage.getVariableWrites() - variableWrites > quota.variableWrites())
+				exceeded.add(quota.variableWrites() + " variable changes");
+			if (quota.delays() > 0 && usage.getDelays() - delays > quota.delays())
+				exceeded.add(quota.delays() + " delays");
+			if (quota.loopIterations() > 0 && usage.getLoopIterations() - loopIterations > quota.loopIterations())
+				exceeded.add(quota.loopIterations() + " loop iterations");
+			if (exceeded.isEmpty())
+				return;
+
+			usage.setThrottled(true);
+			String name = script.getConfig().getFileName();
+			String quotas = String.join(", ", exceeded);
+			if (quota.disable()) {
+				disabled = true;
+				Skript.error("The script '" + name + "' has exceeded its quota of " + quotas + " per second. "
+					+ "Its triggers have been disabled until it is reloaded.");
+			} else if (System.currentTimeMillis() - lastWarning >= WARNING_INTERVAL) {
+				lastWarning = System.currentTimeMillis();
+				Skript.warning("The script '" + name + "' has exceeded its quota of " + quotas + " per second. "
+					+ "Its triggers are not run for the rest of the second.");
+			}
+		}
+
+		private void resetWindow() {
+			ScriptUsage usage = script.getUsage();
+			ticks = 0;
+			cpuNanos = usage.getCpuNanos();
+			variableWrites = usage.getVariableWrites();
+			delays = usage.getDelays();
+			loopIterations = usage.getLoopIterations();
+		}
+
+	}
+
+}
@@ -0,0 +1,133 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A hashed timer wheel used to resume delayed trigger continuations, such as those of
+ * {@link ch.njol.skript.effects.Delay}.
+ * <p>
+ * Rather than scheduling one Bukkit task per continuation, every continuation is placed
+ * into one of {@link #WHEEL_SIZE} buckets, and a single repeating task processes the bucket
+ * of the current tick as a batch. Continuations whose delay is longer than one revolution
+ * of the wheel simply stay in their bucket until their deadline is reached.
+ * <p>
+ * Continuations may be scheduled from any thread. They are handed over to the wheel through
+ * a lock-free queue and always run on the main server thread.
+ * Deadlines are based on the current server tick, so continuations are never run in the tick they were scheduled in,
+ * no matter whether they were scheduled before or after the wheel was processed during that tick.
+ */
+public final class TimerWheel {
+
+	/**
+	 * The amount of buckets in the wheel. Must be a power of two.
+	 */
+	private static final int WHEEL_SIZE = 512;
+	private static final int MASK = WHEEL_SIZE - 1;
+
+	private static final Queue<Timeout> PENDING = new ConcurrentLinkedQueue<>();
+
+	@SuppressWarnings("unchecked")
+	private static final ArrayDeque<Timeout>[] BUCKETS = new ArrayDeque[WHEEL_SIZE];
+
+	static {
+		for (int i = 0; i < WHEEL_SIZE; i++)
+			BUCKETS[i] = new ArrayDeque<>();
+	}
+
+	/**
+	 * The last server tick the wheel has processed, or -1 if it hasn't processed any yet.
+	 */
+	private static long processedTick = -1;
+
+	private static int taskId = -1;
+
+	private TimerWheel() {}
+
+	/**
+	 * Starts the repeating task driving the wheel. This should be done as early as possible,
+	 * so that the wheel is processed before other tasks that are due in the same tick.
+	 * @param plugin The plugin owning the driving task.
+	 */
+	public static void start(Plugin plugin) {
+		if (taskId != -1)
+			return;
+		taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, TimerWheel::tick, 1, 1);
+	}
+
+	/**
+	 * Stops the driving task and discards all continuations that have not been run yet.
+	 */
+	public static void stop() {
+		if (taskId != -1) {
+			Bukkit.getScheduler().cancelTask(taskId);
+			taskId = -1;
+		}
+		processedTick = -1;
+		PENDING.clear();
+		for (ArrayDeque<Timeout> bucket : BUCKETS)
+			bucket.clear();
+	}
+
+	/**
+	 * Schedules a task to be run on the main server thread after the given amount of ticks.
+	 * This method is thread-safe.
+	 * @param task The task to run.
+	 * @param delay The delay in ticks. Delays of less than one tick are treated as one tick.
+	 */
+	public static void schedule(Runnable task, long delay) {
+		PENDING.add(new Timeout(task, Bukkit.getCurrentTick() + Math.max(delay, 1)));
+	}
+
+	private static void tick() {
+		long currentTick = Bukkit.getCurrentTick();
+		if (processedTick == -1)
+			processedTick = currentTick - 1;
+
+		// Only timeouts that were scheduled before this point may be run during this tick
+		Timeout timeout;
+		while ((timeout = PENDING.poll()) != null)
+			BUCKETS[(int) (Math.max(timeout.deadline, processedTick + 1) & MASK)].addLast(timeout);
+
+		// The wheel runs every tick, but catches up on any ticks its task may have missed
+		while (processedTick < currentTick)
+			process(++processedTick);
+	}
+
+	private static void process(long tick) {
+		ArrayDeque<Timeout> bucket = BUCKETS[(int) (tick & MASK)];
+		int remaining = bucket.size();
+		try {
+			while (remaining > 0) {
+				remaining--;
+				Timeout timeout = bucket.pollFirst();
+				assert timeout != null;
+				if (timeout.deadline > tick) { // Due in a later revolution of the wheel
+					bucket.addLast(timeout);
+					continue;
+				}
+				boolean budgeted = ExecutionBudget.enter();
+				try {
+					timeout.task.run();
+				} catch (Exception e) {
+					Skript.exception(e, "An error occurred while resuming a delayed task.");
+				} finally {
+					if (budgeted)
+						ExecutionBudget.exit();
+				}
+			}
+		} finally {
+			// If a task threw an error, the timeouts after it are handed over again instead of waiting a whole revolution
+			for (; remaining > 0; remaining--)
+				PENDING.add(bucket.pollFirst());
+		}
+	}
+
+	private record Timeout(Runnable task, long deadline) { }
+
+}
@@ -5,6 +5,8 @@ import ch.njol.skript.SkriptAddon;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.localization.LanguageChangeListener;
 import ch.njol.skript.util.Utils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import net.md_5.bungee.api.ChatColor;
@@ -70,6 +72,7 @@ public class ChatMessages {
 		// When language changes or server is loaded loop through all chatcodes
 		Language.addListener(() -> {
 			codes.clear();
+			PARSED.invalidateAll();
 
 			Skript.debug("Parsing message style lang files");
 			for (SkriptChatCode code : SkriptChatCode.values()) {
@@ -157,13 +160,55 @@ public class ChatMessages {
 		public List<MessageComponent> extra;
 	}
 	
+	/**
+	 * Strings longer than this are not cached, as they are unlikely to be sent repeatedly.
+	 */
+	private static final int MAX_CACHED_LENGTH = 512;
+
+	/**
+	 * Caches the components strings were parsed to. The cached components must never be modified.
+	 * Values are softly referenced, so that the cache never causes the server to run out of memory.
+	 */
+	private static final Cache<String, ParsedMessage> PARSED = CacheBuilder.newBuilder()
+		.maximumSize(2048)
+		.softValues()
+		.build();
+
+	/**
+	 * Components a string was parsed to, along with the settings they depend on.
+	 */
+	private record ParsedMessage(MessageComponent[] components, LinkParseMode linkParseMode, boolean colorResetCodes) {
+
+		boolean isCurrent() {
+			return linkParseMode == ChatMessages.linkParseMode && colorResetCodes == ChatMessages.colorResetCodes;
+		}
+
+	}
+
 	/**
 	 * Parses a string to list of chat message components.
+	 * Frequently parsed strings are only parsed once, and copies of the components are returned afterwards.
 	 * @param msg Input string.
-	 * @return List with components.
+	 * @return List with components, which may be modified.
 	 */
-	@SuppressWarnings("null")
 	public static List<MessageComponent> parse(String msg) {
+		if (msg.length() > MAX_CACHED_LENGTH)
+			return parseUncached(msg);
+
+		ParsedMessage parsed = PARSED.getIfPresent(msg);
+		if (parsed == null || !parsed.isCurrent()) {
+			parsed = new ParsedMessage(parseUncached(msg).toArray(new MessageComponent[0]), linkParseMode, colorResetCodes);
+			PARSED.put(msg, parsed);
+		}
+
+		List<MessageComponent> components = new ArrayList<>(parsed.components.length);
+		for (MessageComponent component : parsed.components)
+			components.add(component.copy());
+		return components;
+	}
+
+	@SuppressWarnings("null")
+	private static List<MessageComponent> parseUncached(String msg) {
 		char[] chars = msg.toCharArray();
 		
 		List<MessageComponent> components = new ArrayList<>();
@@ -550,6 +595,7 @@ public class ChatMessages {
 		
 		addonCodes.add(code); // So that language reloads don't break everything
 		registerChatCode(code);
+		PARSED.invalidateAll();
 	}
 	
 	private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("[§&]x");
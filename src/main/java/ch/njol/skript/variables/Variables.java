@@ -11,6 +11,7 @@ import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.lang.Variable;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.timings.RuntimeMetrics;
 import ch.njol.skript.variables.SerializedVariable.Value;
 import ch.njol.util.Kleenean;
 import ch.njol.util.NonNullPair;
@@ -134,6 +135,17 @@ public class Variables {
 		return Collections.unmodifiableList(STORAGES);
 	}
 
+	/**
+	 * @return The amount of serialized variables waiting to be written by each storage,
+	 * by the name of its database in the config.
+	 */
+	public static Map<String, Integer> getStorageQueueSizes() {
+		Map<String, Integer> sizes = new TreeMap<>();
+		for (VariablesStorage storage : STORAGES.toArray(new VariablesStorage[0]))
+			sizes.merge(storage.getUserConfigurationName(), storage.changesQueue.size(), Integer::sum);
+		return sizes;
+	}
+
 	/**
 	 * Register a VariableStorage class for Skript to create if the user config value matches.
 	 *
@@ -443,6 +455,7 @@ public class Variables {
 	// TODO don't expose the internal value, bad API
 	@Nullable
 	public static Object getVariable(String name, @Nullable Event event, boolean local) {
+		RuntimeMetrics.recordVariableRead(local);
 		String n;
 		if (caseInsensitiveVariables) {
 			n = name.toLowerCase(Locale.ENGLISH);
@@ -567,6 +580,7 @@ public class Variables {
 	 * @param local if this variable is a local or global variable.
 	 */
 	public static void setVariable(String name, @Nullable Object value, @Nullable Event event, boolean local) {
+		RuntimeMetrics.recordVariableWrite(local);
 		if (caseInsensitiveVariables) {
 			name = name.toLowerCase(Locale.ENGLISH);
 		}
@@ -897,6 +911,13 @@ public class Variables {
 	 */
 	static final BlockingQueue<SerializedVariable> saveQueue = new LinkedBlockingQueue<>();
 
+	/**
+	 * @return The amount of changed global variables waiting to be serialized and passed to the storages.
+	 */
+	public static int getSaveQueueSize() {
+		return saveQueue.size();
+	}
+
 	/**
 	 * Whether the {@link #saveThread} should be stopped.
 	 */
@@ -9,7 +9,10 @@ import ch.njol.skript.classes.Parser;
 import ch.njol.skript.classes.Serializer;
 import ch.njol.skript.expressions.base.EventValueExpression;
 import ch.njol.skript.lang.ParseContext;
+import ch.njol.skript.util.BlockBatch;
+import ch.njol.skript.util.BlockStateBlock;
 import ch.njol.skript.util.BlockUtils;
+import ch.njol.skript.util.DelayedChangeBlock;
 import ch.njol.util.coll.CollectionUtils;
 import ch.njol.yggdrasil.Fields;
 import org.bukkit.Material;
@@ -171,20 +174,35 @@ public class BlockClassInfo extends ClassInfo<Block> {
 
 		@Override
 		public void change(Block[] blocks, Object @Nullable [] delta, ChangeMode mode) {
+			BlockBatch batch = mode == ChangeMode.SET || mode == ChangeMode.DELETE ? BlockBatch.getCurrent() : null;
 			for (Block block : blocks) {
 				assert block != null;
+				// blocks of events are changed through their event, so they can't be batched
+				boolean batched = batch != null && !(block instanceof DelayedChangeBlock) && !(block instanceof BlockStateBlock);
 				switch (mode) {
 					case SET:
 						assert delta != null;
 						Object object = delta[0];
 						if (object instanceof ItemType itemType) {
-							itemType.getBlock().setBlock(block, true);
+							if (batched) {
+								batch.set(block, itemType.getBlock());
+							} else {
+								itemType.getBlock().setBlock(block, true);
+							}
 						} else if (object instanceof BlockData blockData) {
-							block.setBlockData(blockData);
+							if (batched) {
+								batch.set(block, blockData);
+							} else {
+								block.setBlockData(blockData);
+							}
 						}
 						break;
 					case DELETE:
-						block.setType(Material.AIR, true);
+						if (batched) {
+							batch.delete(block);
+						} else {
+							block.setType(Material.AIR, true);
+						}
 						break;
 					case ADD:
 					case REMOVE:
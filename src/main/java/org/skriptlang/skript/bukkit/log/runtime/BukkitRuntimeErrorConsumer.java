@@ -1,17 +1,20 @@
 package org.skriptlang.skript.bukkit.log.runtime;
 
+import ch.njol.skript.Skript;
 import ch.njol.skript.localization.ArgsMessage;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.util.Utils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.skriptlang.skript.log.runtime.AsyncRuntimeErrorConsumer.Summary;
 import org.skriptlang.skript.log.runtime.ErrorSource;
 import org.skriptlang.skript.log.runtime.ErrorSource.Location;
 import org.skriptlang.skript.log.runtime.Frame.FrameOutput;
 import org.skriptlang.skript.log.runtime.RuntimeError;
 import org.skriptlang.skript.log.runtime.RuntimeErrorConsumer;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -38,11 +41,13 @@ public class BukkitRuntimeErrorConsumer implements RuntimeErrorConsumer {
 	public static final ArgsMessage ERROR_TIMEOUT = new ArgsMessage(CONFIG_NODE + ".errors timed out");
 	public static final ArgsMessage ERROR_NOTIF = new ArgsMessage(CONFIG_NODE + ".error notification");
 	public static final ArgsMessage ERROR_NOTIF_PLURAL = new ArgsMessage(CONFIG_NODE + ".error notification plural");
+	public static final ArgsMessage ERROR_SUMMARY = new ArgsMessage(CONFIG_NODE + ".errors summary");
 
 	public static final ArgsMessage WARNING_SKIPPED = new ArgsMessage(CONFIG_NODE + ".warnings skipped");
 	public static final ArgsMessage WARNING_TIMEOUT = new ArgsMessage(CONFIG_NODE + ".warnings timed out");
 	public static final ArgsMessage WARNING_NOTIF = new ArgsMessage(CONFIG_NODE + ".warning notification");
 	public static final ArgsMessage WARNING_NOTIF_PLURAL = new ArgsMessage(CONFIG_NODE + ".warning notification plural");
+	public static final ArgsMessage WARNING_SUMMARY = new ArgsMessage(CONFIG_NODE + ".warnings summary");
 
 	@Override
 	public void printError(@NotNull RuntimeError error) {
@@ -118,18 +123,40 @@ public class BukkitRuntimeErrorConsumer implements RuntimeErrorConsumer {
 			}
 
 			String notif = notification.getValue() != null ? notification.getValue() : notification.key;
-			for (Player player : Bukkit.getOnlinePlayers()) {
-				if (player.hasPermission(ERROR_NOTIF_PERMISSION)) {
-					SkriptLogger.sendFormatted(player,
-						Utils.replaceEnglishChatStyles(
-							String.format(notif, scripts.iterator().next(), scripts.size() - 1)
-						)
-					);
-				}
+			String formatted = Utils.replaceEnglishChatStyles(String.format(notif, scripts.iterator().next(), scripts.size() - 1));
+			// Frames may be printed off the main server thread, where players can't be accessed safely
+			if (Bukkit.isPrimaryThread()) {
+				notifyPlayers(formatted);
+			} else if (Skript.getInstance().isEnabled()) {
+				Bukkit.getScheduler().runTask(Skript.getInstance(), () -> notifyPlayers(formatted));
 			}
 		}
 	}
 
+	private static void notifyPlayers(String notification) {
+		for (Player player : Bukkit.getOnlinePlayers()) {
+			if (player.hasPermission(ERROR_NOTIF_PERMISSION))
+				SkriptLogger.sendFormatted(player, notification);
+		}
+	}
+
+	@Override
+	public void printSummary(@NotNull Summary summary) {
+		String lines = summary.occurrences().entrySet().stream()
+			.sorted(Map.Entry.<Location, Integer>comparingByValue().reversed())
+			.map(entry -> String.format("'%s' line %d: %,d", entry.getKey().script(), entry.getKey().lineNumber(), entry.getValue()))
+			.collect(Collectors.joining(", "));
+
+		ArgsMessage message = summary.level() == Level.SEVERE ? ERROR_SUMMARY : WARNING_SUMMARY;
+		String line = message.getValue() != null ? message.getValue() : message.key;
+
+		SkriptLogger.sendFormatted(Bukkit.getConsoleSender(),
+			Utils.replaceEnglishChatStyles(
+				String.format(line, summary.interval(), lines)
+			)
+		);
+	}
+
 	private static @NotNull String replaceNewline(@NotNull String s) {
 		return s.replaceAll("\\\\n", "\n");
 	}
@@ -79,6 +79,17 @@ public final class Script implements Validated, AnyNamed {
 		return suppressedWarnings.contains(warning);
 	}
 
+	// Resource Usage
+
+	private final ScriptUsage usage = new ScriptUsage();
+
+	/**
+	 * @return The resources this Script has used since it was loaded.
+	 */
+	public ScriptUsage getUsage() {
+		return usage;
+	}
+
 	// Script Data
 
 	private final Map<Class<? extends ScriptData>, ScriptData> scriptData = new ConcurrentHashMap<>(5);
@@ -0,0 +1,89 @@
+package org.skriptlang.skript.lang.script;
+
+import ch.njol.skript.util.ScriptAccounting;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The resources a {@link Script} has used since it was loaded.
+ * <p>
+ * CPU time is measured for executions of the script's triggers and functions on the main server thread,
+ * excluding the time spent in functions of other scripts. The other values are counted on every thread.
+ * All values only ever increase, so the usage during a period is the difference of two readings.
+ * @see Script#getUsage()
+ * @see ScriptAccounting
+ */
+public final class ScriptUsage {
+
+	private final LongAdder cpuNanos = new LongAdder();
+	private final LongAdder variableWrites = new LongAdder();
+	private final LongAdder delays = new LongAdder();
+	private final LongAdder loopIterations = new LongAdder();
+
+	private volatile boolean throttled;
+
+	ScriptUsage() {}
+
+	/**
+	 * @return The CPU time spent executing the script on the main server thread, in nanoseconds.
+	 */
+	public long getCpuNanos() {
+		return cpuNanos.sum();
+	}
+
+	/**
+	 * @return The amount of changes of global variables made by the script.
+	 */
+	public long getVariableWrites() {
+		return variableWrites.sum();
+	}
+
+	/**
+	 * @return The amount of delays the script has started.
+	 */
+	public long getDelays() {
+		return delays.sum();
+	}
+
+	/**
+	 * @return The amount of loop iterations the script has run.
+	 */
+	public long getLoopIterations() {
+		return loopIterations.sum();
+	}
+
+	/**
+	 * @return Whether the script has exceeded one of its {@link ScriptAccounting.Quota quotas},
+	 * in which case its triggers are not run for the time being.
+	 */
+	public boolean isThrottled() {
+		return throttled;
+	}
+
+	@ApiStatus.Internal
+	public void addCpuNanos(long nanos) {
+		cpuNanos.add(nanos);
+	}
+
+	@ApiStatus.Internal
+	public void recordVariableWrite() {
+		variableWrites.increment();
+	}
+
+	@ApiStatus.Internal
+	public void recordDelay() {
+		delays.increment();
+	}
+
+	@ApiStatus.Internal
+	public void recordLoopIteration() {
+		loopIterations.increment();
+	}
+
+	@ApiStatus.Internal
+	public void setThrottled(boolean throttled) {
+		this.throttled = throttled;
+	}
+
+}
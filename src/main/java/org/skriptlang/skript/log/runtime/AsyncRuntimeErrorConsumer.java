@@ -0,0 +1,241 @@
+package org.skriptlang.skript.log.runtime;
+
+import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.util.Timespan;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.skriptlang.skript.log.runtime.ErrorSource.Location;
+import org.skriptlang.skript.log.runtime.Frame.FrameOutput;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Passes runtime errors to another consumer on a background thread, so that formatting and printing errors
+ * doesn't cost the thread that produced them, e.g. the main server thread.
+ * <p>
+ * Errors that pass the other consumer's filter are collected in a lock-free ring buffer and printed in order
+ * by a background thread. If the buffer is full, errors are dropped, but still counted for summaries.
+ * Within each summary interval, an error with the same message from the same line is only printed once.
+ * At the end of the interval, every line that produced more errors than were printed is summarized,
+ * e.g. "line 42: 18,302 runtime errors in the last minute", see {@link RuntimeErrorConsumer#printSummary(Summary)}.
+ * <p>
+ * Addons may wrap their own consumers in this consumer before adding them to the {@link RuntimeErrorManager}.
+ * The consumer must be {@link #close() closed} when it is no longer used, which prints the remaining errors.
+ */
+public class AsyncRuntimeErrorConsumer implements RuntimeErrorConsumer, Closeable {
+
+	/**
+	 * The errors from one line that were not all printed during a summary interval.
+	 * @param level The severity of the errors.
+	 * @param occurrences A map of error locations to the number of errors they produced during the interval.
+	 * @param interval The length of the interval.
+	 */
+	public record Summary(Level level, @UnmodifiableView Map<Location, Integer> occurrences, Timespan interval) { }
+
+	private static final int BUFFER_CAPACITY = 1024;
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final RuntimeErrorConsumer consumer;
+	private final RuntimeErrorBuffer buffer = new RuntimeErrorBuffer(BUFFER_CAPACITY);
+	// frame outputs are rare, and must not be dropped when the buffer is full
+	private final Queue<LeveledFrameOutput> frameOutputs = new ConcurrentLinkedQueue<>();
+	private final AtomicLong dropped = new AtomicLong();
+	private final Thread thread;
+
+	private volatile long summaryInterval;
+	private volatile boolean closed;
+
+	// only accessed by the background thread
+	private final Set<ErrorKey> printed = new HashSet<>();
+	private final Map<LevelLocation, int[]> printedCounts = new HashMap<>();
+	private final Map<LevelLocation, int[]> occurrences = new HashMap<>();
+	private long intervalStart = System.nanoTime();
+
+	/**
+	 * @param consumer The consumer to pass errors to. Its filter is used for this consumer.
+	 * @param summaryInterval How long repeated errors are collected before being summarized.
+	 *                        If zero, repeated errors are printed and not summarized.
+	 */
+	public AsyncRuntimeErrorConsumer(RuntimeErrorConsumer consumer, Timespan summaryInterval) {
+		this.consumer = consumer;
+		setSummaryInterval(summaryInterval);
+		thread = new Thread(this::run, "Skript runtime errors");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * @param summaryInterval How long repeated errors are collected before being summarized.
+	 *                        If zero, repeated errors are printed and not summarized.
+	 */
+	public void setSummaryInterval(Timespan summaryInterval) {
+		this.summaryInterval = TimeUnit.MILLISECONDS.toNanos(summaryInterval.getAs(Timespan.TimePeriod.MILLISECOND));
+	}
+
+	/**
+	 * @return The consumer errors are passed to.
+	 */
+	public RuntimeErrorConsumer getConsumer() {
+		return consumer;
+	}
+
+	@Override
+	public @Nullable RuntimeErrorFilter getFilter() {
+		return consumer.getFilter();
+	}
+
+	@Override
+	public void printError(RuntimeError error) {
+		if (closed) {
+			consumer.printError(error);
+		} else if (!buffer.offer(error)) {
+			dropped.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void printFrameOutput(FrameOutput output, Level level) {
+		// the frame's maps are cleared once the frame ends
+		FrameOutput copy = new FrameOutput(
+			Map.copyOf(output.totalErrors()),
+			Map.copyOf(output.skippedErrors()),
+			Set.copyOf(output.newTimeouts()),
+			output.frameLimits());
+		if (closed) {
+			consumer.printFrameOutput(copy, level);
+		} else {
+			frameOutputs.add(new LeveledFrameOutput(copy, level));
+		}
+	}
+
+	@Override
+	public void printSummary(Summary summary) {
+		consumer.printSummary(summary);
+	}
+
+	private void run() {
+		while (!closed) {
+			process();
+			LockSupport.parkNanos(this, IDLE_NANOS);
+		}
+	}
+
+	private void process() {
+		RuntimeError error;
+		while ((error = buffer.poll()) != null) {
+			try {
+				print(error);
+			} catch (RuntimeException e) {
+				SkriptLogger.LOGGER.log(Level.SEVERE, "[Skript] An error occurred while printing a runtime error", e);
+			}
+		}
+		LeveledFrameOutput frameOutput;
+		while ((frameOutput = frameOutputs.poll()) != null) {
+			try {
+				consumer.printFrameOutput(frameOutput.output(), frameOutput.level());
+			} catch (RuntimeException e) {
+				SkriptLogger.LOGGER.log(Level.SEVERE, "[Skript] An error occurred while printing runtime errors", e);
+			}
+			if (summaryInterval > 0) {
+				for (Map.Entry<Location, Integer> entry : frameOutput.output().totalErrors().entrySet()) {
+					LevelLocation key = new LevelLocation(frameOutput.level(), entry.getKey());
+					occurrences.computeIfAbsent(key, k -> new int[1])[0] += entry.getValue();
+				}
+			}
+			reportDropped();
+		}
+		long now = System.nanoTime();
+		long interval = summaryInterval;
+		if (interval > 0 && now - intervalStart >= interval) {
+			summarize(now - intervalStart);
+			intervalStart = now;
+		} else if (interval <= 0) {
+			printed.clear();
+			printedCounts.clear();
+			occurrences.clear();
+			intervalStart = now;
+		}
+	}
+
+	private void print(RuntimeError error) {
+		if (summaryInterval > 0) {
+			Location location = error.source().location();
+			if (!printed.add(new ErrorKey(error.level(), location, error.error())))
+				return;
+			printedCounts.computeIfAbsent(new LevelLocation(error.level(), location), key -> new int[1])[0]++;
+		}
+		consumer.printError(error);
+	}
+
+	private void summarize(long elapsed) {
+		Map<Location, Integer> errors = new HashMap<>();
+		Map<Location, Integer> warnings = new HashMap<>();
+		for (Map.Entry<LevelLocation, int[]> entry : occurrences.entrySet()) {
+			LevelLocation key = entry.getKey();
+			int total = entry.getValue()[0];
+			int[] printedCount = printedCounts.get(key);
+			if (total > (printedCount == null ? 0 : printedCount[0]))
+				(key.level() == Level.SEVERE ? errors : warnings).put(key.location(), total);
+		}
+		printed.clear();
+		printedCounts.clear();
+		occurrences.clear();
+
+		Timespan interval = new Timespan(Timespan.TimePeriod.SECOND, Math.max(Math.round(elapsed / 1e9), 1));
+		try {
+			if (!errors.isEmpty())
+				consumer.printSummary(new Summary(Level.SEVERE, Collections.unmodifiableMap(errors), interval));
+			if (!warnings.isEmpty())
+				consumer.printSummary(new Summary(Level.WARNING, Collections.unmodifiableMap(warnings), interval));
+		} catch (RuntimeException e) {
+			SkriptLogger.LOGGER.log(Level.SEVERE, "[Skript] An error occurred while summarizing runtime errors", e);
+		}
+	}
+
+	private void reportDropped() {
+		long droppedErrors = dropped.getAndSet(0);
+		if (droppedErrors > 0)
+			SkriptLogger.LOGGER.warning("[Skript] " + droppedErrors + " runtime errors were not printed because too many were produced at once.");
+	}
+
+	/**
+	 * Stops the background thread and prints the remaining errors and summaries on the calling thread.
+	 * Errors received afterwards are passed to the other consumer directly.
+	 */
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join(TimeUnit.SECONDS.toMillis(1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (thread.isAlive())
+			return;
+		process();
+		reportDropped();
+		if (summaryInterval > 0)
+			summarize(System.nanoTime() - intervalStart);
+	}
+
+	private record ErrorKey(Level level, Location location, String error) { }
+
+	private record LevelLocation(Level level, Location location) { }
+
+	private record LeveledFrameOutput(FrameOutput output, Level level) { }
+
+}
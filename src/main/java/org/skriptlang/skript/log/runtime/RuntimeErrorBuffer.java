@@ -0,0 +1,78 @@
+package org.skriptlang.skript.log.runtime;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer of runtime errors with any number of producers and a single consumer.
+ * <p>
+ * Every slot has a sequence number telling whether it may be written or read at a position,
+ * so producers only compete for the next position and never wait for each other.
+ */
+final class RuntimeErrorBuffer {
+
+	private final int mask;
+	private final AtomicReferenceArray<RuntimeError> errors;
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong tail = new AtomicLong();
+	// only accessed by the consumer
+	private long head;
+
+	/**
+	 * @param capacity The maximum amount of errors in the buffer, rounded up to a power of two.
+	 */
+	RuntimeErrorBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		mask = size - 1;
+		errors = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++)
+			sequences.set(i, i);
+	}
+
+	/**
+	 * Adds an error to the buffer. May be called from any thread.
+	 * @param error The error to add.
+	 * @return Whether the error was added, false if the buffer is full.
+	 */
+	boolean offer(RuntimeError error) {
+		long position = tail.get();
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					errors.set(index, error);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				// the slot still holds the error from one lap earlier
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes the oldest error from the buffer. Must only be called from the consuming thread.
+	 * @return The oldest error, or null if the buffer is empty.
+	 */
+	@Nullable RuntimeError poll() {
+		int index = (int) (head & mask);
+		if (sequences.get(index) != head + 1)
+			return null;
+		RuntimeError error = errors.get(index);
+		errors.set(index, null);
+		sequences.set(index, head + mask + 1);
+		head++;
+		return error;
+	}
+
+}
@@ -33,4 +33,11 @@ public interface RuntimeErrorConsumer {
 	 */
 	void printFrameOutput(Frame.FrameOutput output, Level level);
 
+	/**
+	 * Prints a summary of the lines that produced more errors than were printed over a longer period.
+	 * Only called for consumers wrapped in an {@link AsyncRuntimeErrorConsumer}. Does nothing by default.
+	 * @param summary The summary to print.
+	 */
+	default void printSummary(AsyncRuntimeErrorConsumer.Summary summary) { }
+
 }
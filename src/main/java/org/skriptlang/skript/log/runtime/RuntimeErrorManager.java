@@ -99,7 +99,7 @@ public class RuntimeErrorManager implements Closeable {
 					consumers.forEach(consumer -> consumer.printFrameOutput(errorFrame.getFrameOutput(), Level.SEVERE));
 					errorFrame.nextFrame();
 
-					Frame warningFrame = filter.getErrorFrame();
+					Frame warningFrame = filter.getWarningFrame();
 					consumers.forEach(consumer -> consumer.printFrameOutput(warningFrame.getFrameOutput(), Level.WARNING));
 					warningFrame.nextFrame();
 				}
@@ -0,0 +1,61 @@
+package ch.njol.skript.entity;
+
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Pig;
+import org.bukkit.entity.Zombie;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EntityIndexTest extends SkriptJUnitTest {
+
+	static {
+		setShutdownDelay(1);
+	}
+
+	private static final EntityData<?>[] PIGS = {EntityData.fromClass(Pig.class)};
+
+	private Pig pig;
+
+	@Before
+	public void setup() {
+		EntityIndex.setEnabled(true);
+		// Builds the index before the pig is spawned, so that it has to be added to it
+		EntityIndex.getAll(getTestWorld(), PIGS, Pig.class, new ArrayList<>());
+		pig = spawnTestPig();
+	}
+
+	private static <E extends Entity> List<E> getAll(EntityData<?>[] types, Class<E> type) {
+		List<E> entities = new ArrayList<>();
+		EntityIndex.getAll(getTestWorld(), types, type, entities);
+		return entities;
+	}
+
+	@Test
+	public void testAdded() {
+		assertTrue("spawned entity was not found", getAll(PIGS, Pig.class).contains(pig));
+		assertTrue("spawned entity was not found as an entity", getAll(PIGS, Entity.class).contains(pig));
+		assertFalse("entity of another type was found",
+			getAll(new EntityData<?>[] {EntityData.fromClass(Zombie.class)}, Entity.class).contains(pig));
+	}
+
+	@Test
+	public void testRemoved() {
+		pig.remove();
+		assertFalse("removed entity was found", getAll(PIGS, Pig.class).contains(pig));
+	}
+
+	@After
+	public void reset() {
+		pig.remove();
+		EntityIndex.setEnabled(SkriptConfig.entityIndex.value());
+	}
+
+}
@@ -0,0 +1,33 @@
+package ch.njol.skript.expressions.arithmetic;
+
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.SkriptParser;
+import ch.njol.skript.lang.util.ContextlessEvent;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import ch.njol.skript.variables.Variables;
+import org.bukkit.event.Event;
+import org.bukkit.util.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Check if vector arithmetic is fused into a single chain, including grouped operations.
+ */
+public class VectorChainTest extends SkriptJUnitTest {
+
+	@Test
+	public void testGrouped() {
+		Expression<? extends Vector> arithmetic = new SkriptParser(
+			"((vector {_x}, 1, 0) + (vector 2, {_x}, 0)) * 2 - (vector 0, 0, {_x})").parseExpression(Vector.class);
+		Assert.assertNotNull(arithmetic);
+		VectorChain chain = VectorChain.of(arithmetic);
+		Assert.assertNotNull("vector arithmetic was not fused", chain);
+		Assert.assertEquals("grouped vector arithmetic was not fused", 3, chain.operations());
+
+		Event event = ContextlessEvent.get();
+		Variables.setVariable("x", 1, event, true);
+		Assert.assertEquals(new Vector(6, 4, -1), arithmetic.getSingle(event));
+		Variables.removeLocals(event);
+	}
+
+}
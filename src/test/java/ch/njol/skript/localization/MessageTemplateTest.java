@@ -0,0 +1,38 @@
+package ch.njol.skript.localization;
+
+import org.junit.Test;
+
+import java.util.MissingFormatArgumentException;
+
+import static org.junit.Assert.assertEquals;
+
+public class MessageTemplateTest {
+
+	@Test
+	public void testFormat() {
+		Object[][] tests = {
+				{"no arguments"},
+				{"%s and %s", "a", "b"},
+				{"%2$s before %1$s", "a", "b"},
+				{"%s, %1$s and %s", "a", "b"},
+				{"100%% of %s%n", "a"},
+				{"%s is null", null},
+				{"%d items", 5},
+				{"%.2f seconds", 1.5},
+				{"%-5s|", "a"},
+				{"%s", "a", "unused"},
+		};
+		for (Object[] test : tests) {
+			String format = (String) test[0];
+			Object[] args = new Object[test.length - 1];
+			System.arraycopy(test, 1, args, 0, args.length);
+			assertEquals(format, String.format(format, args), MessageTemplate.compile(format).format(args));
+		}
+	}
+
+	@Test(expected = MissingFormatArgumentException.class)
+	public void testMissingArgument() {
+		MessageTemplate.compile("%s and %s").format("a");
+	}
+
+}
@@ -0,0 +1,52 @@
+package ch.njol.skript.patterns;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PatternSignatureTest {
+
+	private static boolean accepts(String pattern, String input) {
+		return PatternCompiler.compile(pattern).getSignature().accepts(PatternSignature.of(input));
+	}
+
+	@Test
+	public void testMatchesAreAccepted() {
+		String[][] cases = {
+			{"cancel [the] event", "cancel event"},
+			{"cancel [the] event", "CANCEL The Event"},
+			{"(exit|stop) [1|a|the|this] (section|1:loop|2:conditional)", "stop the loop"},
+			{"(stop|shut[ ]down) [the] server", "shutdown server"},
+			{"[:un]enforce [the] [server] white[ ]list", "unenforce the white list"},
+			{"continue [the] <\\d+>(st|nd|rd|th) loop", "continue the 2nd loop"},
+			{"[the] [last] [parse] error", "error"},
+			{"  spaced  pattern  ", "spaced pattern"},
+		};
+		for (String[] testCase : cases) {
+			assertNotNull(testCase[0] + " should match " + testCase[1], PatternCompiler.compile(testCase[0]).match(testCase[1]));
+			assertTrue(testCase[0] + " should accept " + testCase[1], accepts(testCase[0], testCase[1]));
+		}
+	}
+
+	@Test
+	public void testLength() {
+		assertFalse(accepts("restart [the] server", "restart"));
+		assertTrue(accepts("restart [the] server", "restart server"));
+	}
+
+	@Test
+	public void testCharacters() {
+		assertFalse(accepts("(reel|pull) in hook[ed] entity", "reel in the fish"));
+		// Characters required by only one of the choices aren't required by the pattern
+		assertTrue(accepts("(reel|pull) in hook[ed] entity", "pull in hook entity"));
+	}
+
+	@Test
+	public void testAffixes() {
+		assertFalse(accepts("cause exception", "exception cause"));
+		assertFalse(accepts("cause exception", "cause exceptions"));
+		// A pattern starting with an optional element has no required prefix
+		assertTrue(accepts("[the] white[ ]list", "whitelist"));
+	}
+
+}
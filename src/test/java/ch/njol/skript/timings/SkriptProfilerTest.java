@@ -0,0 +1,60 @@
+package ch.njol.skript.timings;
+
+import ch.njol.skript.timings.SkriptProfiler.Stats;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SkriptProfilerTest {
+
+	@Test
+	public void testStats() {
+		Stats stats = new Stats();
+		for (int i = 0; i < 99; i++)
+			stats.record(100);
+		stats.record(1_000_000);
+
+		assertEquals(100, stats.getCount());
+		assertEquals(99 * 100 + 1_000_000, stats.getTotalNanos());
+		assertEquals(1_000_000, stats.getMaxNanos());
+
+		// 100 lies in the bucket [64, 128)
+		assertEquals(127, stats.getPercentile(0.5));
+		assertEquals(127, stats.getPercentile(0.9));
+		// 1,000,000 lies in the bucket [2^19, 2^20)
+		assertEquals((1 << 20) - 1, stats.getPercentile(1));
+	}
+
+	@Test
+	public void testEmptyStats() {
+		Stats stats = new Stats();
+		assertEquals(0, stats.getCount());
+		assertEquals(0, stats.getPercentile(0.99));
+	}
+
+	@Test
+	public void testTriggers() {
+		SkriptProfiler.reset();
+		SkriptProfiler.setEnabled(false);
+		SkriptProfiler.recordTrigger("disabled", SkriptProfiler.start());
+		assertTrue(SkriptProfiler.getTriggers(10).isEmpty());
+
+		SkriptProfiler.setEnabled(true);
+		try {
+			SkriptProfiler.recordTrigger("a", SkriptProfiler.start());
+			SkriptProfiler.recordTrigger("a", SkriptProfiler.start());
+			SkriptProfiler.recordTrigger("b", SkriptProfiler.start());
+			assertEquals(2, SkriptProfiler.getTriggers(10).size());
+			assertEquals(1, SkriptProfiler.getTriggers(1).size());
+			long count = SkriptProfiler.getTriggers(10).stream()
+				.filter(entry -> entry.name().equals("a"))
+				.mapToLong(SkriptProfiler.Entry::count)
+				.sum();
+			assertEquals(2, count);
+		} finally {
+			SkriptProfiler.setEnabled(false);
+			SkriptProfiler.reset();
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.config.Config;
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.util.ContextlessEvent;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.skriptlang.skript.lang.script.Script;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ScriptAccountingTest extends SkriptJUnitTest {
+
+	private Script script;
+	private Trigger trigger;
+	private int runs;
+
+	@Before
+	public void setup() {
+		script = new Script(new Config("quota test", null), Collections.emptyList());
+		TriggerItem item = new TriggerItem() {
+			@Override
+			protected boolean run(Event event) {
+				runs++;
+				script.getUsage().recordDelay();
+				return true;
+			}
+
+			@Override
+			public String toString(@Nullable Event event, boolean debug) {
+				return "count run";
+			}
+		};
+		trigger = new Trigger(script, "quota test", null, List.of(item));
+		runs = 0;
+	}
+
+	@Test
+	public void testThrottle() {
+		ScriptAccounting.setQuota(script, new ScriptAccounting.Quota(0, 0, 1, 0, false));
+		trigger.execute(ContextlessEvent.get());
+		trigger.execute(ContextlessEvent.get());
+		assertEquals(2, runs);
+
+		ScriptAccounting.tick();
+		assertTrue("script exceeding its quota was not throttled", ScriptAccounting.isThrottled(script));
+		trigger.execute(ContextlessEvent.get());
+		assertEquals("trigger of a throttled script was run", 2, runs);
+
+		// The script is run again once the second is over
+		for (int tick = 1; tick < 20; tick++)
+			ScriptAccounting.tick();
+		assertFalse("script was still throttled after a second", ScriptAccounting.isThrottled(script));
+		trigger.execute(ContextlessEvent.get());
+		assertEquals(3, runs);
+	}
+
+	@Test
+	public void testDisable() {
+		ScriptAccounting.setQuota(script, new ScriptAccounting.Quota(0, 0, 1, 0, true));
+		trigger.execute(ContextlessEvent.get());
+		trigger.execute(ContextlessEvent.get());
+		for (int tick = 0; tick < 40; tick++)
+			ScriptAccounting.tick();
+		trigger.execute(ContextlessEvent.get());
+		assertEquals("trigger of a disabled script was run", 2, runs);
+	}
+
+	@After
+	public void reset() {
+		ScriptAccounting.setQuota(script, null);
+	}
+
+}